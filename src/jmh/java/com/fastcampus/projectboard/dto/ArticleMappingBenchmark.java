@@ -0,0 +1,95 @@
+package com.fastcampus.projectboard.dto;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.ArticleComment;
+import com.fastcampus.projectboard.domain.AuditingFields;
+import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.dto.response.ArticleCommentResponse;
+import com.fastcampus.projectboard.dto.response.ArticleResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> DTO -> 응답 변환 비용. 상세 화면/API 요청마다 실행되는 경로.
+ * 댓글 수는 댓글 없는 글, 한 창(20), 인기 글(300) 수준으로 잡는다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ArticleMappingBenchmark {
+    @Param({"0", "20", "300"})
+    private int commentCount;
+
+    private Article article;
+    private ArticleDto articleDto;
+
+    @Setup
+    public void setUp() {
+        UserAccount author = UserAccount.of("uno", "password", "uno@mail.com", "Uno", null);
+        UserAccount commenter = UserAccount.of("dos", "password", "dos@mail.com", "", null); // 닉네임이 비어 userId 로 대체되는 경우
+
+        article = Article.of(author, "새 글", "본문 ".repeat(200), "#java #spring");
+        setField(article, Article.class, "id", 1L);
+        audit(article);
+        for (long i = 1; i <= commentCount; i++) {
+            ArticleComment articleComment = ArticleComment.of(article, i % 2 == 0 ? author : commenter, "댓글 " + i);
+            setField(articleComment, ArticleComment.class, "id", i); // id 가 없으면 equals 가 달라 Set 에 넣을 때 비용이 달라진다
+            audit(articleComment);
+            article.getArticleComments().add(articleComment);
+        }
+
+        articleDto = ArticleDto.from(article);
+    }
+
+    @Benchmark
+    public ArticleDto articleToDto() {
+        return ArticleDto.from(article);
+    }
+
+    @Benchmark
+    public ArticleResponse articleDtoToResponse() {
+        return ArticleResponse.from(articleDto);
+    }
+
+    @Benchmark
+    public ArticleResponse articleToResponse() {
+        return ArticleResponse.from(ArticleDto.from(article));
+    }
+
+    // 상세 화면의 댓글 창 변환
+    @Benchmark
+    public List<ArticleCommentResponse> articleCommentsToResponses() {
+        return article.getArticleComments().stream()
+                .map(ArticleCommentDto::from)
+                .map(ArticleCommentResponse::from)
+                .toList();
+    }
+
+    // JPA auditing 이 채우는 값
+    private static void audit(AuditingFields entity) {
+        LocalDateTime now = LocalDateTime.now();
+        setField(entity, AuditingFields.class, "createdAt", now);
+        setField(entity, AuditingFields.class, "createdBy", "uno");
+        setField(entity, AuditingFields.class, "modifiedAt", now);
+        setField(entity, AuditingFields.class, "modifiedBy", "uno");
+    }
+
+    private static void setField(Object target, Class<?> type, String name, Object value) {
+        Field field = Objects.requireNonNull(ReflectionUtils.findField(type, name));
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
@@ -0,0 +1,75 @@
+package com.fastcampus.projectboard.repository;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.QArticle;
+import com.querydsl.core.types.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.querydsl.SimpleEntityPathResolver;
+import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.querydsl.binding.QuerydslPredicateBuilder;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spring Data REST 검색(/api/articles?title=...)의 Querydsl 조건 생성 비용.
+ * 요청마다 바인딩을 새로 만들어 {@link ArticleRepository#customize} 를 적용하고, 파라미터를 Predicate 로 바꾼다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ArticlePredicateBenchmark {
+    private static final TypeInformation<Article> ARTICLE_TYPE = ClassTypeInformation.from(Article.class);
+
+    @Param({"title", "title,content,hashtag,createdBy"})
+    private String searchedProperties;
+
+    private ArticleRepository articleRepository;
+    private QuerydslPredicateBuilder predicateBuilder;
+    private MultiValueMap<String, String> parameters;
+
+    @Setup
+    public void setUp() {
+        // customize 는 default 메서드이므로 저장소 구현 없이 프록시로 호출한다
+        articleRepository = (ArticleRepository) Proxy.newProxyInstance(
+                ArticleRepository.class.getClassLoader(),
+                new Class<?>[]{ArticleRepository.class},
+                InvocationHandler::invokeDefault
+        );
+        predicateBuilder = new QuerydslPredicateBuilder(DefaultConversionService.getSharedInstance(), SimpleEntityPathResolver.INSTANCE);
+
+        parameters = new LinkedMultiValueMap<>();
+        for (String property : searchedProperties.split(",")) {
+            parameters.add(property, "spring");
+        }
+    }
+
+    @Benchmark
+    public QuerydslBindings customizeBindings() {
+        QuerydslBindings bindings = new QuerydslBindings();
+        articleRepository.customize(bindings, QArticle.article);
+
+        return bindings;
+    }
+
+    @Benchmark
+    public Predicate buildPredicate() {
+        QuerydslBindings bindings = new QuerydslBindings();
+        articleRepository.customize(bindings, QArticle.article);
+
+        return predicateBuilder.getPredicate(ARTICLE_TYPE, parameters, bindings);
+    }
+}
@@ -0,0 +1,33 @@
+package com.fastcampus.projectboard.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 페이지 바 번호 계산 비용. 리스트 화면 요청마다 실행된다.
+ * 첫 페이지, 중간 페이지, 마지막 페이지 근처(바가 잘리는 경우)를 잰다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PaginationServiceBenchmark {
+    private static final int TOTAL_PAGES = 1_000;
+
+    @Param({"0", "500", "999"})
+    private int currentPageNumber;
+
+    private final PaginationService paginationService = new PaginationService();
+
+    @Benchmark
+    public List<Integer> getPaginationBarNumbers() {
+        return paginationService.getPaginationBarNumbers(currentPageNumber, TOTAL_PAGES);
+    }
+}
@@ -0,0 +1,59 @@
+package com.fastcampus.projectboard.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 (요청 종류별 처리량과 지연 시간). JSON 으로 저장해 두고 다음 실행의 기준선으로 비교한다.
+ */
+record LoadTestReport(
+        String mix,
+        int users,
+        double targetRate,
+        long measuredMillis,
+        Map<String, EndpointResult> endpoints
+) {
+    record EndpointResult(
+            String description,
+            long requests,
+            long errors,
+            double throughput, // 초당 성공 요청 수
+            double p50Millis,
+            double p99Millis,
+            double maxMillis
+    ) {}
+
+    /**
+     * 기준선보다 나빠진 항목. p99 가 tolerance 비율 넘게 늘었거나, 처리량이 tolerance 비율 넘게 줄었거나, 없던 오류가 생긴 경우.
+     */
+    List<String> regressionsAgainst(LoadTestReport baseline, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        baseline.endpoints().forEach((key, expected) -> {
+            EndpointResult actual = endpoints.get(key);
+            if (actual == null) { return; } // 이번 비율에 없는 요청 종류
+
+            if (actual.p99Millis() > expected.p99Millis() * (1 + tolerance)) {
+                regressions.add("%s p99 %.1fms -> %.1fms".formatted(key, expected.p99Millis(), actual.p99Millis()));
+            }
+            if (actual.throughput() < expected.throughput() * (1 - tolerance)) {
+                regressions.add("%s throughput %.1f/s -> %.1f/s".formatted(key, expected.throughput(), actual.throughput()));
+            }
+            if (expected.errors() == 0 && actual.errors() > 0) {
+                regressions.add("%s errors 0 -> %d".formatted(key, actual.errors()));
+            }
+        });
+
+        return regressions;
+    }
+
+    String toTable() {
+        StringBuilder table = new StringBuilder("%-10s %-30s %10s %8s %10s %10s %10s %10s%n"
+                .formatted("endpoint", "request", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)"));
+        endpoints.forEach((key, result) -> table.append("%-10s %-30s %10d %8d %10.1f %10.2f %10.2f %10.2f%n".formatted(
+                key, result.description(), result.requests(), result.errors(), result.throughput(), result.p50Millis(), result.p99Millis(), result.maxMillis()
+        )));
+
+        return table.toString();
+    }
+}
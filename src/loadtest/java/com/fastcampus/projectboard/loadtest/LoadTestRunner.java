@@ -0,0 +1,161 @@
+package com.fastcampus.projectboard.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 실행 중인 애플리케이션에 읽기/쓰기 비율 스크립트대로 요청을 보내고, 요청 종류별 처리량과 p50/p99 지연 시간을 낸다.
+ * 결과는 build/loadtest 에 저장하고, 저장된 기준선(src/loadtest/baseline/{비율}.json)이 있으면 비교해서 나빠졌으면 실패(종료 코드 1)한다.
+ * <ul>
+ *     <li>--rate 를 주면 가상 사용자들이 합쳐서 초당 그만큼 요청을 보내고(개방형), 지연 시간을 예정 시각부터 잰다.
+ *     서버가 밀려 요청을 늦게 보내게 된 시간도 지연에 넣어야 p99 가 실제보다 좋게 나오지 않는다</li>
+ *     <li>--rate 가 없으면 각 가상 사용자가 응답을 받자마자 다음 요청을 보낸다(폐쇄형, 최대 처리량 측정)</li>
+ * </ul>
+ */
+public class LoadTestRunner {
+    private final Map<Operation, Recorder> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    private LoadTestRunner() {
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new Recorder(3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Arguments arguments = Arguments.parse(args);
+        WorkloadMix mix = WorkloadMix.load(arguments.get("mix", "read-heavy"));
+        VirtualUser.Workload workload = VirtualUser.Workload.of(
+                arguments.get("base-url", "http://localhost:8080"),
+                mix,
+                arguments.getInt("articles", 1_000_000), // 생성기에 준 값과 같게
+                arguments.getInt("hashtags", 1_000)
+        );
+        int users = arguments.getInt("users", 16);
+        double rate = arguments.getDouble("rate", 0);
+        Duration warmup = arguments.getDuration("warmup", Duration.ofSeconds(10));
+        Duration duration = arguments.getDuration("duration", Duration.ofSeconds(60));
+        long seed = arguments.getLong("seed", 42L);
+
+        LoadTestReport report = new LoadTestRunner().run(workload, users, rate, warmup, duration, seed);
+        System.out.print(report.toTable());
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        Path result = Path.of("build", "loadtest", "%s-%s.json".formatted(mix.name(), LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))));
+        Files.createDirectories(result.getParent());
+        objectMapper.writeValue(result.toFile(), report);
+        System.out.println("결과 저장 - " + result);
+
+        Path baseline = Path.of(arguments.get("baseline", "src/loadtest/baseline/" + mix.name() + ".json"));
+        if (arguments.getBoolean("save-baseline", false)) {
+            Files.createDirectories(baseline.toAbsolutePath().getParent());
+            objectMapper.writeValue(baseline.toFile(), report);
+            System.out.println("기준선 저장 - " + baseline);
+            return;
+        }
+        if (!Files.isRegularFile(baseline)) {
+            System.out.println("기준선 없음 - " + baseline + " (--save-baseline 으로 저장)");
+            return;
+        }
+
+        List<String> regressions = report.regressionsAgainst(objectMapper.readValue(baseline.toFile(), LoadTestReport.class), arguments.getDouble("tolerance", 0.2));
+        if (regressions.isEmpty()) {
+            System.out.println("기준선 대비 이상 없음 - " + baseline);
+        } else {
+            System.out.println("기준선 대비 나빠짐 - " + baseline);
+            regressions.forEach(regression -> System.out.println("  " + regression));
+            System.exit(1);
+        }
+    }
+
+    private LoadTestReport run(VirtualUser.Workload workload, int users, double rate, Duration warmup, Duration duration, long seed) throws InterruptedException {
+        long start = System.nanoTime();
+        long measureStart = start + warmup.toNanos();
+        long end = measureStart + duration.toNanos();
+        long interval = rate > 0 ? (long) (users * 1_000_000_000L / rate) : 0; // 가상 사용자 한 명의 요청 간격
+
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        for (int i = 0; i < users; i++) {
+            VirtualUser user = new VirtualUser(workload, seed * 31 + i);
+            long firstRequest = start + (interval * i / users); // 한꺼번에 몰리지 않도록 시작을 흩는다
+            executor.execute(() -> runUser(user, firstRequest, interval, measureStart, end));
+        }
+        executor.shutdown();
+        executor.awaitTermination(warmup.plus(duration).plusMinutes(1).toMillis(), TimeUnit.MILLISECONDS);
+
+        double seconds = duration.toNanos() / 1e9;
+        Map<String, LoadTestReport.EndpointResult> endpoints = new LinkedHashMap<>();
+        for (Operation operation : workload.mix().weights().keySet()) {
+            Histogram histogram = latencies.get(operation).getIntervalHistogram();
+            endpoints.put(operation.key(), new LoadTestReport.EndpointResult(
+                    operation.description(),
+                    histogram.getTotalCount(),
+                    errors.get(operation).sum(),
+                    histogram.getTotalCount() / seconds,
+                    histogram.getValueAtPercentile(50) / 1_000.0,
+                    histogram.getValueAtPercentile(99) / 1_000.0,
+                    histogram.getMaxValue() / 1_000.0
+            ));
+        }
+
+        return new LoadTestReport(workload.mix().name(), users, rate, duration.toMillis(), endpoints);
+    }
+
+    private void runUser(VirtualUser user, long firstRequest, long interval, long measureStart, long end) {
+        long intended = firstRequest;
+        List<Exception> failures = new ArrayList<>(1);
+
+        while (true) {
+            Operation operation = user.nextOperation();
+            long now = System.nanoTime();
+            if (interval > 0 && intended > now) {
+                LockSupport.parkNanos(intended - now);
+            }
+            long requestStart = interval > 0 ? intended : System.nanoTime();
+            if (requestStart >= end) { break; }
+
+            boolean success;
+            try {
+                success = user.execute(operation);
+            } catch (IOException e) {
+                success = false;
+                if (failures.isEmpty()) { failures.add(e); }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long finished = System.nanoTime();
+
+            if (requestStart >= measureStart) {
+                if (success) {
+                    latencies.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(finished - requestStart));
+                } else {
+                    errors.get(operation).increment();
+                }
+            }
+            intended += interval;
+        }
+
+        failures.forEach(failure -> System.err.println("요청 실패 (첫 건) - " + failure));
+    }
+}
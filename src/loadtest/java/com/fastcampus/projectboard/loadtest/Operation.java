@@ -0,0 +1,37 @@
+package com.fastcampus.projectboard.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 부하 테스트가 보내는 요청 종류. 결과는 이 단위로 집계한다.
+ */
+enum Operation {
+    LIST("list", "GET /articles"),
+    DETAIL("detail", "GET /articles/{id}"),
+    HASHTAG("hashtag", "GET /articles/search-hashtag"),
+    API("api", "GET /api/articles"),
+    WRITE("write", "GET+POST /articles/form");
+
+    private final String key;
+    private final String description;
+
+    Operation(String key, String description) {
+        this.key = key;
+        this.description = description;
+    }
+
+    String key() {
+        return key;
+    }
+
+    String description() {
+        return description;
+    }
+
+    static Operation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 요청 종류입니다 - " + key));
+    }
+}
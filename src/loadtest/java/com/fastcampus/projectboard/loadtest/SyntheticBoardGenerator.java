@@ -0,0 +1,270 @@
+package com.fastcampus.projectboard.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+
+/**
+ * 부하 테스트용 합성 게시판 데이터 생성기. 같은 인자(시드)면 항상 같은 데이터를 만든다.
+ * <ul>
+ *     <li>작성자: Zipf 분포 (글을 많이 쓰는 소수의 사용자). 일부는 닉네임이 비어 있다</li>
+ *     <li>해시태그: 게시글마다 0~3개, 태그는 Zipf 분포 (소수의 인기 태그)</li>
+ *     <li>댓글 수: 꼬리가 긴 Lomax(파레토) 분포. 대부분 0~몇 개, 일부 게시글은 수천 개</li>
+ * </ul>
+ * 스키마는 애플리케이션(loadtest 프로필)이 만든 것을 쓰고, ID 를 직접 넣은 뒤 ID 테이블/시퀀스를 그 다음 값으로 맞춘다.
+ * 애플리케이션은 기동 시 카운터/색인을 DB 에서 읽으므로, 적재 후에 다시 띄워야 한다.
+ */
+public class SyntheticBoardGenerator {
+    private static final int BATCH_SIZE = 1_000;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2021, 1, 1, 0, 0);
+    private static final Duration TIME_SPAN = Duration.ofDays(730);
+    private static final List<String> WORDS = List.of(
+            "spring", "boot", "java", "jpa", "querydsl", "thymeleaf", "security", "cache", "index", "query",
+            "게시판", "질문", "답변", "공유", "후기", "추천", "정리", "오류", "해결", "방법",
+            "성능", "배포", "테스트", "리팩토링", "설계", "도메인", "트랜잭션", "커넥션", "레플리카", "스트리밍",
+            "lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit", "sed", "tempor"
+    );
+
+    private final Connection connection;
+    private final SplittableRandom random;
+    private final int userCount;
+    private final int hashtagCount;
+    private final int articleCount;
+    private final double commentScale;
+    private final double commentAlpha;
+    private final int maxComments;
+
+    SyntheticBoardGenerator(Connection connection, Arguments arguments) {
+        this.connection = connection;
+        this.random = new SplittableRandom(arguments.getLong("seed", 42L));
+        this.userCount = arguments.getInt("users", 10_000);
+        this.hashtagCount = arguments.getInt("hashtags", 1_000);
+        this.articleCount = arguments.getInt("articles", 1_000_000);
+        this.commentScale = arguments.getDouble("comment-scale", 1.0); // 평균 댓글 수 = scale / (alpha - 1)
+        this.commentAlpha = arguments.getDouble("comment-alpha", 1.2);
+        this.maxComments = arguments.getInt("max-comments", 5_000);
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Arguments arguments = Arguments.parse(args);
+        String url = arguments.get("jdbc-url", "jdbc:h2:file:./build/loadtest/board;AUTO_SERVER=TRUE");
+
+        try (Connection connection = DriverManager.getConnection(url, arguments.get("username", "sa"), arguments.get("password", ""))) {
+            connection.setAutoCommit(false);
+            new SyntheticBoardGenerator(connection, arguments).generate();
+        }
+    }
+
+    void generate() throws SQLException {
+        long start = System.nanoTime();
+
+        clear();
+        insertUsers();
+        insertHashtags();
+        long comments = insertArticlesAndComments();
+        resetIdGenerators(comments);
+
+        System.out.printf("적재 완료 - users: %d, hashtags: %d, articles: %d, comments: %d, elapsed: %ds%n",
+                userCount, hashtagCount, articleCount, comments, Duration.ofNanos(System.nanoTime() - start).toSeconds());
+    }
+
+    private void clear() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : List.of("article_comment", "article_hashtag", "article", "hashtag", "user_account")) {
+                statement.executeUpdate("delete from " + table);
+            }
+        }
+        connection.commit();
+    }
+
+    // 컨트롤러가 글쓰기에 쓰는 고정 계정(uno, uno2) + 합성 사용자
+    private void insertUsers() throws SQLException {
+        String sql = "insert into user_account (user_id, user_password, email, nickname, memo, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < userCount; i++) {
+                String userId = userId(i);
+                Timestamp createdAt = timestamp(BASE_TIME);
+                statement.setString(1, userId);
+                statement.setString(2, "asdf1234");
+                statement.setString(3, userId + "@mail.com");
+                statement.setString(4, random.nextInt(10) == 0 ? "" : "닉네임" + userId); // 10% 는 닉네임 없음 (userId 로 대체 표시)
+                statement.setString(5, null);
+                statement.setTimestamp(6, createdAt);
+                statement.setString(7, userId);
+                statement.setTimestamp(8, createdAt);
+                statement.setString(9, userId);
+                addBatch(statement, i + 1);
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private void insertHashtags() throws SQLException {
+        String sql = "insert into hashtag (id, hashtag_name, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int id = 1; id <= hashtagCount; id++) {
+                statement.setLong(1, id);
+                statement.setString(2, hashtagName(id));
+                statement.setTimestamp(3, timestamp(BASE_TIME));
+                statement.setString(4, "uno");
+                statement.setTimestamp(5, timestamp(BASE_TIME));
+                statement.setString(6, "uno");
+                addBatch(statement, id);
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private long insertArticlesAndComments() throws SQLException {
+        ZipfDistribution authors = new ZipfDistribution(userCount, 1.0);
+        ZipfDistribution hashtags = new ZipfDistribution(hashtagCount, 1.1);
+        long commentId = 0;
+
+        try (
+                PreparedStatement articleStatement = connection.prepareStatement(
+                        "insert into article (id, user_id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+                PreparedStatement articleHashtagStatement = connection.prepareStatement(
+                        "insert into article_hashtag (article_id, hashtag_id) values (?, ?)");
+                PreparedStatement commentStatement = connection.prepareStatement(
+                        "insert into article_comment (id, article_id, user_id, content, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?)")
+        ) {
+            for (long articleId = 1; articleId <= articleCount; articleId++) {
+                String author = userId(authors.sample(random) - 1);
+                LocalDateTime createdAt = BASE_TIME.plusSeconds(TIME_SPAN.toSeconds() * articleId / articleCount); // ID 순 = 작성 순
+                Set<Integer> articleHashtags = pickHashtags(hashtags);
+
+                articleStatement.setLong(1, articleId);
+                articleStatement.setString(2, author);
+                articleStatement.setString(3, sentence(3 + random.nextInt(8)));
+                articleStatement.setString(4, sentence(30 + random.nextInt(300)));
+                articleStatement.setString(5, hashtagColumn(articleHashtags));
+                articleStatement.setTimestamp(6, timestamp(createdAt));
+                articleStatement.setString(7, author);
+                articleStatement.setTimestamp(8, timestamp(createdAt));
+                articleStatement.setString(9, author);
+                articleStatement.addBatch();
+
+                for (int hashtagId : articleHashtags) {
+                    articleHashtagStatement.setLong(1, articleId);
+                    articleHashtagStatement.setLong(2, hashtagId);
+                    articleHashtagStatement.addBatch();
+                }
+
+                int comments = commentCount();
+                for (int i = 0; i < comments; i++) {
+                    String commenter = userId(random.nextInt(userCount));
+                    LocalDateTime commentedAt = createdAt.plusMinutes(1 + random.nextInt(60 * 24 * 30));
+                    commentStatement.setLong(1, ++commentId);
+                    commentStatement.setLong(2, articleId);
+                    commentStatement.setString(3, commenter);
+                    commentStatement.setString(4, sentence(3 + random.nextInt(40)));
+                    commentStatement.setTimestamp(5, timestamp(commentedAt));
+                    commentStatement.setString(6, commenter);
+                    commentStatement.setTimestamp(7, timestamp(commentedAt));
+                    commentStatement.setString(8, commenter);
+                    commentStatement.addBatch();
+                }
+
+                if (articleId % BATCH_SIZE == 0 || articleId == articleCount) {
+                    // 외래 키 순서대로 (게시글 -> 연결/댓글)
+                    articleStatement.executeBatch();
+                    articleHashtagStatement.executeBatch();
+                    commentStatement.executeBatch();
+                    connection.commit();
+                }
+                if (articleId % 100_000 == 0) {
+                    System.out.printf("게시글 %d / %d, 댓글 %d%n", articleId, articleCount, commentId);
+                }
+            }
+        }
+
+        return commentId;
+    }
+
+    // 애플리케이션이 이어서 쓸 ID 가 적재한 ID 와 겹치지 않도록
+    private void resetIdGenerators(long comments) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("delete from article_seq");
+            statement.executeUpdate("insert into article_seq (next_val) values (" + (articleCount + 1) + ")");
+            statement.executeUpdate("delete from article_comment_seq");
+            statement.executeUpdate("insert into article_comment_seq (next_val) values (" + (comments + 1) + ")");
+            if (connection.getMetaData().getDatabaseProductName().equals("H2")) {
+                // H2 의 IDENTITY 는 직접 넣은 ID 를 따라가지 않는다 (MySQL AUTO_INCREMENT 는 자동으로 따라감)
+                statement.executeUpdate("alter table hashtag alter column id restart with " + (hashtagCount + 1));
+            }
+        }
+        connection.commit();
+    }
+
+    // 0~3 개 (20/50/20/10%), 인기 태그일수록 자주
+    private Set<Integer> pickHashtags(ZipfDistribution hashtags) {
+        int roll = random.nextInt(10);
+        int count = roll < 2 ? 0 : roll < 7 ? 1 : roll < 9 ? 2 : 3;
+
+        Set<Integer> picked = new LinkedHashSet<>();
+        for (int attempt = 0; picked.size() < count && attempt < count * 4; attempt++) {
+            picked.add(hashtags.sample(random));
+        }
+
+        return picked;
+    }
+
+    // Lomax 분포: scale * (U^(-1/alpha) - 1)
+    private int commentCount() {
+        double u = 1.0 - random.nextDouble(); // (0, 1]
+        double count = commentScale * (Math.pow(u, -1.0 / commentAlpha) - 1.0);
+
+        return (int) Math.min(maxComments, Math.floor(count));
+    }
+
+    private String sentence(int words) {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (int i = 0; i < words; i++) {
+            joiner.add(WORDS.get(random.nextInt(WORDS.size())));
+        }
+
+        return joiner.toString();
+    }
+
+    private static String hashtagColumn(Set<Integer> hashtagIds) {
+        if (hashtagIds.isEmpty()) { return null; }
+
+        StringJoiner joiner = new StringJoiner(" ");
+        hashtagIds.forEach(id -> joiner.add("#" + hashtagName(id)));
+
+        return joiner.toString();
+    }
+
+    static String userId(int index) {
+        return switch (index) {
+            case 0 -> "uno";
+            case 1 -> "uno2";
+            default -> "user%06d".formatted(index);
+        };
+    }
+
+    static String hashtagName(int id) {
+        return "tag%04d".formatted(id);
+    }
+
+    private static Timestamp timestamp(LocalDateTime dateTime) {
+        return Timestamp.valueOf(dateTime);
+    }
+
+    private static void addBatch(PreparedStatement statement, long count) throws SQLException {
+        statement.addBatch();
+        if (count % BATCH_SIZE == 0) { statement.executeBatch(); }
+    }
+}
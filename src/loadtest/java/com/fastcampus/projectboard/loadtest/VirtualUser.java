@@ -0,0 +1,136 @@
+package com.fastcampus.projectboard.loadtest;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 가상 사용자 한 명. 자기 시드로 요청 종류와 대상을 뽑으므로 실행마다 같은 요청 순서를 보낸다.
+ * 쿠키(세션, CSRF, 쓰기 후 프라이머리 읽기)를 사용자별로 유지한다.
+ */
+class VirtualUser {
+    private static final Pattern CSRF_INPUT = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final int PAGES = 1_000;
+    private static final int API_PAGE_SIZE = 20;
+    private static final long ID_SCATTER_PRIME = 2_147_483_647L; // 인기 순위 -> 게시글 ID 를 골고루 흩는 곱셈 상수 (게시글 수와 서로소)
+
+    private final Workload workload;
+    private final SplittableRandom random;
+    private final HttpClient client;
+
+    VirtualUser(Workload workload, long seed) {
+        this.workload = workload;
+        this.random = new SplittableRandom(seed);
+        this.client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(5))
+                .followRedirects(HttpClient.Redirect.NEVER) // 쓰기 후 리다이렉트는 따라가지 않는다 (다음 요청은 비율대로)
+                .build();
+    }
+
+    Operation nextOperation() {
+        return workload.mix().pick(random);
+    }
+
+    /**
+     * @return 2xx/3xx 로 응답했으면 true
+     */
+    boolean execute(Operation operation) throws IOException, InterruptedException {
+        return switch (operation) {
+            case LIST -> get("/articles?page=" + page());
+            case DETAIL -> get("/articles/" + articleId());
+            case HASHTAG -> get("/articles/search-hashtag?searchValue=" + encode("#" + SyntheticBoardGenerator.hashtagName(hashtagId())) + "&page=" + page() % 10);
+            case API -> get("/api/articles?page=" + page() + "&size=" + API_PAGE_SIZE);
+            case WRITE -> write();
+        };
+    }
+
+    private boolean get(String path) throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(request(path).GET().build(), HttpResponse.BodyHandlers.discarding());
+
+        return isSuccess(response.statusCode());
+    }
+
+    // 폼에서 CSRF 토큰을 받아 글을 쓴다 (브라우저와 같은 흐름)
+    private boolean write() throws IOException, InterruptedException {
+        HttpResponse<String> form = client.send(request("/articles/form").GET().build(), HttpResponse.BodyHandlers.ofString());
+        Matcher csrf = CSRF_INPUT.matcher(form.body());
+        if (!isSuccess(form.statusCode()) || !csrf.find()) { return false; }
+
+        StringJoiner body = new StringJoiner("&");
+        body.add("_csrf=" + encode(csrf.group(1)));
+        body.add("title=" + encode("부하 테스트 " + random.nextInt(1_000_000)));
+        body.add("content=" + encode("부하 테스트 본문 ".repeat(1 + random.nextInt(20))));
+        body.add("hashtag=" + encode("#" + SyntheticBoardGenerator.hashtagName(hashtagId())));
+
+        HttpResponse<Void> response = client.send(
+                request("/articles/form")
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding()
+        );
+
+        return isSuccess(response.statusCode());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(workload.baseUrl() + path)).timeout(Duration.ofSeconds(30));
+    }
+
+    // 앞쪽 페이지일수록 자주
+    private int page() {
+        return workload.pages().sample(random) - 1;
+    }
+
+    // 인기 순위를 ID 로 흩어서, 인기 게시글이 ID 한쪽에 몰리지 않게 한다
+    private long articleId() {
+        long rank = workload.articles().sample(random) - 1;
+        return 1 + (rank * ID_SCATTER_PRIME) % workload.articleCount();
+    }
+
+    private int hashtagId() {
+        return workload.hashtags().sample(random);
+    }
+
+    private static boolean isSuccess(int status) {
+        return status >= 200 && status < 400;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 모든 가상 사용자가 공유하는 설정과 분포 (불변).
+     */
+    record Workload(
+            String baseUrl,
+            WorkloadMix mix,
+            int articleCount,
+            ZipfDistribution articles,
+            ZipfDistribution hashtags,
+            ZipfDistribution pages
+    ) {
+        static Workload of(String baseUrl, WorkloadMix mix, int articleCount, int hashtagCount) {
+            return new Workload(
+                    baseUrl.replaceFirst("/$", ""),
+                    mix,
+                    articleCount,
+                    new ZipfDistribution(articleCount, 1.0),
+                    new ZipfDistribution(hashtagCount, 1.1), // 생성기와 같은 쏠림
+                    new ZipfDistribution(PAGES, 1.2)
+            );
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.fastcampus.projectboard.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+
+/**
+ * 읽기/쓰기 비율 스크립트. 요청 종류별 가중치를 적은 properties 파일이다 (예: list=40, detail=40, write=1).
+ * 이름만 주면 클래스패스의 mixes/{이름}.properties 를, 경로를 주면 그 파일을 읽는다.
+ */
+record WorkloadMix(String name, Map<Operation, Integer> weights, int totalWeight) {
+    static WorkloadMix load(String nameOrPath) {
+        Properties properties = new Properties();
+        Path path = Path.of(nameOrPath);
+        try (InputStream in = Files.isRegularFile(path)
+                ? Files.newInputStream(path)
+                : WorkloadMix.class.getResourceAsStream("/mixes/" + nameOrPath + ".properties")) {
+            if (in == null) { throw new IllegalArgumentException("부하 비율 스크립트가 없습니다 - " + nameOrPath); }
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        int totalWeight = 0;
+        for (String key : properties.stringPropertyNames()) {
+            int weight = Integer.parseInt(properties.getProperty(key).trim());
+            if (weight <= 0) { continue; }
+
+            weights.put(Operation.fromKey(key), weight);
+            totalWeight += weight;
+        }
+        if (totalWeight == 0) { throw new IllegalArgumentException("가중치가 모두 0 입니다 - " + nameOrPath); }
+
+        String name = Files.isRegularFile(path) ? path.getFileName().toString().replaceFirst("\\.properties$", "") : nameOrPath;
+
+        return new WorkloadMix(name, weights, totalWeight);
+    }
+
+    Operation pick(SplittableRandom random) {
+        int roll = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) { return entry.getKey(); }
+        }
+
+        throw new IllegalStateException("unreachable");
+    }
+}
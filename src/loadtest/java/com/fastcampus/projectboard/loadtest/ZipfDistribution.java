@@ -0,0 +1,34 @@
+package com.fastcampus.projectboard.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 1..n 순위에 대한 Zipf 분포 (순위 k 의 확률은 1/k^exponent 에 비례).
+ * 소수의 인기 해시태그/게시글에 사용이 몰리는 실제 게시판의 쏠림을 흉내 낸다.
+ * 누적 분포를 미리 계산해 두고 이진 탐색으로 뽑으므로, 같은 시드면 항상 같은 순서로 같은 값이 나온다.
+ */
+final class ZipfDistribution {
+    private final double[] cumulative;
+
+    ZipfDistribution(int n, double exponent) {
+        if (n < 1) { throw new IllegalArgumentException("n 은 1 이상이어야 합니다 - " + n); }
+
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1 / Math.pow(k, exponent);
+            cumulative[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    // 1..n 중 하나
+    int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+
+        return Math.min((index >= 0 ? index : -index - 1) + 1, cumulative.length);
+    }
+}
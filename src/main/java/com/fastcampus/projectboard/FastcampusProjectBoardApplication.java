@@ -2,6 +2,7 @@ package com.fastcampus.projectboard;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @ConfigurationPropertiesScan
@@ -9,7 +10,9 @@ import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 public class FastcampusProjectBoardApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(FastcampusProjectBoardApplication.class, args);
+        SpringApplication application = new SpringApplication(FastcampusProjectBoardApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(10_000)); // 기동 단계별 소요 시간 (로그, /actuator/startup)
+        application.run(args);
     }
 
 }
@@ -0,0 +1,41 @@
+package com.fastcampus.projectboard.concurrent;
+
+import com.fastcampus.projectboard.datasource.PrimaryReads;
+import com.fastcampus.projectboard.datasource.SqlStatementCounter;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+
+/**
+ * 작업을 넘긴 스레드의 컨텍스트를 작업 스레드로 옮긴다.
+ * 보안 컨텍스트(인증 정보), 프라이머리 읽기 고정(쓰기 직후 요청의 read your writes), 요청의 SQL 문 카운터, 로그 MDC 를 옮기고 작업이 끝나면 되돌린다.
+ * 트랜잭션은 스레드에 묶여 있어 옮길 수 없으므로, 작업은 각자 자기 트랜잭션(서비스 메서드의 @Transactional)으로 실행된다.
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        boolean primaryPinned = PrimaryReads.isPinned();
+        SqlStatementCounter sqlStatementCounter = SqlStatementCounter.current();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+        Runnable withContext = () -> {
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            boolean pinned = primaryPinned && PrimaryReads.pin();
+            SqlStatementCounter previousCounter = SqlStatementCounter.bind(sqlStatementCounter);
+            if (mdc != null) { MDC.setContextMap(mdc); }
+            try {
+                runnable.run();
+            } finally {
+                if (pinned) { PrimaryReads.unpin(); }
+                SqlStatementCounter.restore(previousCounter);
+                if (previousMdc == null) { MDC.clear(); } else { MDC.setContextMap(previousMdc); }
+            }
+        };
+
+        // 큐가 가득 차 호출 스레드에서 실행되는 경우에도 원래 보안 컨텍스트로 되돌린다
+        return new DelegatingSecurityContextRunnable(withContext, SecurityContextHolder.getContext());
+    }
+}
@@ -0,0 +1,95 @@
+package com.fastcampus.projectboard.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 한 화면에 필요한 서로 독립적인 서비스 호출을 동시에 실행하고 모두 기다리는 도구.
+ * 요청 지연이 각 조회 시간의 합이 아닌 가장 느린 조회 시간이 되도록 한다. 필요한 호출을 모두 fork 한 뒤 각 Branch 를 join 한다.
+ * 각 갈래는 크기가 제한된 전용 실행기에서 자기 트랜잭션으로 실행되고, 실행 시간은 갈래 이름별로 기록된다 (board.fan-out.branch).
+ * 이미 트랜잭션 안에서 호출하면 다른 스레드는 그 트랜잭션을 볼 수 없으므로 호출 스레드에서 바로 실행한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class FanOut {
+    public static final String BRANCH_TIMER = "board.fan-out.branch";
+
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+    private final Duration timeout;
+
+    public <T> Branch<T> fork(String name, Supplier<T> task) {
+        Supplier<T> timedTask = () -> {
+            long start = System.nanoTime();
+            try {
+                return task.get();
+            } finally {
+                record(name, System.nanoTime() - start);
+            }
+        };
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return new Branch<>(name, runInline(timedTask), deadline);
+        }
+
+        return new Branch<>(name, CompletableFuture.supplyAsync(timedTask, executor), deadline);
+    }
+
+    private void record(String name, long elapsedNanos) {
+        Timer.builder(BRANCH_TIMER)
+                .tag("branch", name)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.debug("fan-out 갈래 완료 - {}: {}ms", name, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    private static <T> CompletableFuture<T> runInline(Supplier<T> task) {
+        try {
+            return CompletableFuture.completedFuture(task.get());
+        } catch (RuntimeException | Error e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @RequiredArgsConstructor
+    public static final class Branch<T> {
+        private final String name;
+        private final CompletableFuture<T> future;
+        private final long deadline; // System.nanoTime() 기준
+
+        /**
+         * 결과를 기다린다. 갈래에서 난 예외는 감싸지 않고 그대로 던지므로 순차 호출과 같은 예외 처리가 적용된다.
+         *
+         * @throws QueryTimeoutException fork 시점부터 제한 시간 안에 끝나지 않은 경우
+         */
+        public T join() {
+            try {
+                return future.get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(false);
+                throw new QueryTimeoutException("fan-out 갈래 시간 초과 - " + name, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("fan-out 갈래 대기 중 인터럽트 - " + name, e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) { throw runtimeException; }
+                if (cause instanceof Error error) { throw error; }
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.fastcampus.projectboard.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@EnableCaching
+@Configuration
+public class CacheConfig {
+    public static final String ARTICLE = "article";
+    public static final String RENDERED_PAGE = "renderedPage";
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaximumSize())
+                .expireAfterWrite(cacheProperties.getExpireAfterWrite())
+                .recordStats()); // actuator (/actuator/metrics/cache.*) 로 hit/miss/eviction 노출
+        cacheManager.setCacheNames(List.of(ARTICLE)); // 기동 시 생성해야 메트릭이 등록된다
+        cacheManager.setAllowNullValues(false);
+        // 렌더링된 HTML 은 항목이 크므로 따로 크기를 잡는다
+        cacheManager.registerCustomCache(RENDERED_PAGE, Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getRenderedPageMaximumSize())
+                .expireAfterWrite(cacheProperties.getRenderedPageExpireAfterWrite())
+                .recordStats()
+                .build());
+
+        // evict 를 트랜잭션 커밋 이후로 미룬다. 커밋 전에 비우면 다른 요청이 커밋 전 값을 바로 다시 채우기 때문.
+        // 커밋 전에 DB 를 읽기 시작한 요청이 비운 뒤에 옛 값을 넣는 경우는 막지 못하므로, 그런 항목은 expire-after-write 까지 남을 수 있다
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.cache")
+    public static class CacheProperties {
+        /**
+         * Maximum number of entries per cache
+         */
+        private final long maximumSize;
+        /**
+         * Time after which an entry expires regardless of use
+         */
+        private final Duration expireAfterWrite;
+        /**
+         * Maximum number of rendered list pages kept in memory
+         */
+        private final long renderedPageMaximumSize;
+        /**
+         * Time after which a rendered list page expires even without article writes
+         */
+        private final Duration renderedPageExpireAfterWrite;
+    }
+}
@@ -0,0 +1,128 @@
+package com.fastcampus.projectboard.config;
+
+import com.fastcampus.projectboard.datasource.ReplicaRoutingDataSource;
+import com.fastcampus.projectboard.web.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@ConditionalOnProperty(name = "board.datasource.routing.enabled", havingValue = "true")
+@Configuration
+public class DataSourceConfig { // 읽기 전용 트랜잭션은 레플리카로, 나머지는 프라이머리(spring.datasource)로
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties dataSourceProperties,
+            RoutingProperties routingProperties,
+            MeterRegistry meterRegistry
+    ) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<RoutingProperties.Replica> replicaProperties = Objects.requireNonNullElse(routingProperties.getReplicas(), List.of());
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            RoutingProperties.Replica replica = replicaProperties.get(i);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.getUrl())
+                    .username(Objects.requireNonNullElse(replica.getUsername(), dataSourceProperties.getUsername()))
+                    .password(Objects.requireNonNullElse(replica.getPassword(), dataSourceProperties.getPassword()))
+                    .build();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setReadOnly(true);
+            dataSource.setConnectionTimeout(routingProperties.getReplicaConnectionTimeout().toMillis()); // 오래 기다리느니 프라이머리로 읽는다
+            dataSource.setInitializationFailTimeout(-1); // 레플리카가 내려가 있어도 기동은 한다
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry)); // 빈이 아니라 스프링 부트가 등록해 주지 않는다 (hikaricp.*, pool=replica-i)
+            replicas.put(dataSource.getPoolName(), dataSource);
+        }
+
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    // JPA, JdbcTemplate, sql.init 이 쓰는 DataSource
+    // 트랜잭션 시작 시점에는 readOnly 여부가 아직 동기화되지 않았으므로, 실제 커넥션은 첫 쿼리 때 얻도록 미룬다
+    @Primary
+    @Bean
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilterRegistration(RoutingProperties routingProperties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter(routingProperties.getReadYourWritesWindow()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE); // 보안/페이지 캐시 필터의 조회보다 먼저 고정
+
+        return registration;
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.datasource.routing")
+    public static class RoutingProperties {
+        /**
+         * Whether read-only transactions are sent to the replicas
+         */
+        private final boolean enabled;
+        /**
+         * Replicas to read from. Each gets its own read-only connection pool
+         */
+        private final List<Replica> replicas;
+        /**
+         * Interval between replica health checks. A replica that fails stays out of rotation until a check passes
+         */
+        private final Duration healthCheckInterval;
+        /**
+         * How long a client reads from the primary after a write request. Should exceed the usual replication lag
+         */
+        private final Duration readYourWritesWindow;
+        /**
+         * Maximum time to wait for a replica connection before falling back to the primary
+         */
+        private final Duration replicaConnectionTimeout;
+
+        @RequiredArgsConstructor
+        @Getter
+        public static class Replica {
+            /**
+             * JDBC URL of the replica
+             */
+            private final String url;
+            /**
+             * Login username of the replica. Defaults to spring.datasource.username
+             */
+            private final String username;
+            /**
+             * Login password of the replica. Defaults to spring.datasource.password
+             */
+            private final String password;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.fastcampus.projectboard.config;
+
+import com.fastcampus.projectboard.concurrent.ContextPropagatingTaskDecorator;
+import com.fastcampus.projectboard.concurrent.FanOut;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class FanOutConfig { // 화면 하나의 독립적인 조회들을 동시에 실행
+    @Bean
+    public ThreadPoolTaskExecutor fanOutExecutor(FanOutProperties fanOutProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("fan-out-");
+        executor.setCorePoolSize(fanOutProperties.getPoolSize());
+        executor.setMaxPoolSize(fanOutProperties.getPoolSize());
+        executor.setQueueCapacity(fanOutProperties.getQueueCapacity());
+        // 밀리면 요청 스레드가 직접 실행한다. 거절 대신 순차 실행으로 느려질 뿐이고, 요청 스레드 수 이상으로 부하가 늘지 않는다
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationMillis(fanOutProperties.getTimeout().toMillis());
+
+        return executor;
+    }
+
+    @Bean
+    public FanOut fanOut(@Qualifier("fanOutExecutor") ThreadPoolTaskExecutor fanOutExecutor, MeterRegistry meterRegistry, FanOutProperties fanOutProperties) {
+        return new FanOut(fanOutExecutor, meterRegistry, fanOutProperties.getTimeout());
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.fan-out")
+    public static class FanOutProperties {
+        /**
+         * Threads running fan-out branches. Each running branch may hold a database connection, so keep it below the connection pool size
+         */
+        private final int poolSize;
+        /**
+         * Branches waiting for a thread. When full, the request thread runs the branch itself
+         */
+        private final int queueCapacity;
+        /**
+         * Maximum time a handler waits for a branch, counted from when it was forked
+         */
+        private final Duration timeout;
+    }
+}
@@ -0,0 +1,45 @@
+package com.fastcampus.projectboard.config;
+
+import com.fastcampus.projectboard.domain.constant.ImportFormat;
+import com.fastcampus.projectboard.domain.constant.ImportTarget;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class ImportConfig { // 게시글/댓글 대량 가져오기
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.import")
+    public static class ImportProperties {
+        /**
+         * Rows written per transaction (and JDBC batch run)
+         */
+        private final int chunkSize;
+        /**
+         * Maximum number of user ids remembered while resolving authors during one import
+         */
+        private final long userCacheSize;
+        /**
+         * Maximum number of row errors kept in the import report
+         */
+        private final int maxReportedErrors;
+        /**
+         * File to import on startup. When set, the application imports it and, without a web server, exits
+         */
+        private final Path file;
+        /**
+         * What the startup import file contains
+         */
+        private final ImportTarget target;
+        /**
+         * Format of the startup import file. Inferred from the file extension when not set
+         */
+        private final ImportFormat format;
+    }
+}
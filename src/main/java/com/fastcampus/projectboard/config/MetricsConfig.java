@@ -0,0 +1,31 @@
+package com.fastcampus.projectboard.config;
+
+import com.fastcampus.projectboard.metrics.ServiceMethodTimingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Service;
+
+// 리포지토리 호출(spring.data.repository.invocations), 커넥션 풀(hikaricp.*), Hibernate 통계(hibernate.*)는 스프링 부트가 기록한다
+@Configuration
+public class MetricsConfig {
+    // SQL 문 예산 어드바이저와 같은 방식 (AOP 스타터 없이 인프라 역할로 등록)
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceMethodTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new AnnotationMatchingPointcut(Service.class, true),
+                new ServiceMethodTimingInterceptor(meterRegistry)
+        );
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 1); // 트랜잭션/캐시 어드바이스 바깥
+
+        return advisor;
+    }
+}
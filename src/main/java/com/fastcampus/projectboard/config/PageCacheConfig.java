@@ -0,0 +1,26 @@
+package com.fastcampus.projectboard.config;
+
+import com.fastcampus.projectboard.web.RenderedPageCacheFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Objects;
+
+@Configuration
+public class PageCacheConfig {
+    @Bean
+    public RenderedPageCacheFilter renderedPageCacheFilter(CacheManager cacheManager) {
+        return new RenderedPageCacheFilter(Objects.requireNonNull(cacheManager.getCache(CacheConfig.RENDERED_PAGE)));
+    }
+
+    // 익명 사용자가 가장 많이 보는 리스트 화면에만 적용
+    @Bean
+    public FilterRegistrationBean<RenderedPageCacheFilter> renderedPageCacheFilterRegistration(RenderedPageCacheFilter renderedPageCacheFilter) {
+        FilterRegistrationBean<RenderedPageCacheFilter> registration = new FilterRegistrationBean<>(renderedPageCacheFilter);
+        registration.addUrlPatterns("/articles", "/articles/search-hashtag");
+
+        return registration;
+    }
+}
@@ -0,0 +1,101 @@
+package com.fastcampus.projectboard.config;
+
+import com.fastcampus.projectboard.event.NicknameChangeListener;
+import com.fastcampus.projectboard.search.analysis.*;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+@Configuration
+public class SearchConfig { // 게시판 검색 색인용 분석기
+    // n-gram 으로 펼치기 전 단어 단위 분석기. 색인 후보가 실제로 검색어를 포함하는지 원문과 대조할 때 사용
+    @Bean
+    public Analyzer articleWordAnalyzer(SearchProperties searchProperties) {
+        return Analyzer.of(
+                new TextNormalizer(),
+                new WordTokenizer(),
+                List.of(new StopWordFilter(searchProperties.getStopWords()))
+        );
+    }
+
+    @Bean
+    public Analyzer articleAnalyzer(SearchProperties searchProperties) {
+        return Analyzer.of(
+                new TextNormalizer(),
+                new WordTokenizer(),
+                List.of(
+                        new StopWordFilter(searchProperties.getStopWords()),
+                        new NGramFilter(searchProperties.getMinGram(), searchProperties.getMaxGram())
+                )
+        );
+    }
+
+    // 색인에 복제해 둔 작성자 닉네임을 회원 정보 수정에 맞춰 갱신하도록, 닉네임 변경을 감지하는 Hibernate 리스너 등록
+    @Bean
+    public HibernatePropertiesCustomizer nicknameChangeListenerCustomizer(ApplicationEventPublisher eventPublisher) {
+        NicknameChangeListener listener = new NicknameChangeListener(eventPublisher);
+        IntegratorProvider integratorProvider = () -> List.of(new Integrator() {
+            @Override
+            public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+                serviceRegistry.getService(EventListenerRegistry.class).appendListeners(EventType.POST_UPDATE, listener);
+            }
+
+            @Override
+            public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {}
+        });
+
+        return hibernateProperties -> hibernateProperties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER, integratorProvider);
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("search.analyzer")
+    public static class SearchProperties {
+        /**
+         * Minimum character n-gram length. Shorter query words fall back to substring search
+         */
+        private final int minGram;
+        /**
+         * Maximum character n-gram length
+         */
+        private final int maxGram;
+        /**
+         * Words dropped before n-gram expansion
+         */
+        private final Set<String> stopWords;
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("search.index")
+    public static class SearchIndexProperties {
+        /**
+         * Largest board the in-memory index is built for. Above this the index is dropped and searches fall back to substring queries.
+         * The index takes roughly 2 bytes of heap per indexed character plus about 300 bytes per article, and twice that while it is rebuilt
+         */
+        private final int maxDocuments;
+        /**
+         * How often the index is rebuilt from the database. Repairs changes that missed an event and drops postings of replaced or deleted articles
+         */
+        private final Duration rebuildInterval;
+    }
+}
@@ -2,11 +2,34 @@ package com.fastcampus.projectboard.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 
 @Configuration
 public class SecurityConfig {
+    // 브라우저 폼이 아닌 도구(curl 등)로 호출하는 관리용 API (가져오기, 내보내기, Data REST 게시글 쓰기, 삭제). 관리자만 호출할 수 있다
+    // 세션 로그인 대신 요청마다 HTTP Basic 으로 인증하므로, 브라우저 세션 쿠키로는 호출되지 않아 CSRF 토큰을 받지 않는다
+    @Bean
+    @Order(1)
+    public SecurityFilterChain adminApiSecurityFilterChain(HttpSecurity http) throws Exception {
+        return http
+                .requestMatchers(matchers -> matchers
+                        .antMatchers("/api/articles/import", "/api/articleComments/import", "/api/articles/export", "/api/articles/delete")
+                        .antMatchers(HttpMethod.POST, "/api/articles", "/api/articles/**")
+                        .antMatchers(HttpMethod.PUT, "/api/articles/**")
+                        .antMatchers(HttpMethod.PATCH, "/api/articles/**")
+                        .antMatchers(HttpMethod.DELETE, "/api/articles/**")
+                )
+                .authorizeHttpRequests(auth -> auth.anyRequest().hasRole("ADMIN"))
+                .httpBasic().and()
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .csrf().disable()
+                .build();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         return http
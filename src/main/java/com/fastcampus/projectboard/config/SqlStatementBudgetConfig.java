@@ -0,0 +1,78 @@
+package com.fastcampus.projectboard.config;
+
+import com.fastcampus.projectboard.datasource.SqlStatementBudget;
+import com.fastcampus.projectboard.datasource.SqlStatementBudgetInterceptor;
+import com.fastcampus.projectboard.datasource.SqlStatementCountingInterceptor;
+import com.fastcampus.projectboard.web.SqlStatementBudgetFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Service;
+
+@Configuration
+public class SqlStatementBudgetConfig { // 요청/서비스 메서드별 SQL 문 수 집계 (N+1 감지)
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCountingCustomizer() {
+        SqlStatementCountingInterceptor interceptor = new SqlStatementCountingInterceptor();
+
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, interceptor);
+            hibernateProperties.put(AvailableSettings.INTERCEPTOR, interceptor);
+        };
+    }
+
+    @Bean
+    public SqlStatementBudget sqlStatementBudget(MeterRegistry meterRegistry, SqlBudgetProperties sqlBudgetProperties) {
+        return new SqlStatementBudget(meterRegistry, sqlBudgetProperties.getMaxStatementsPerRequest(), sqlBudgetProperties.getMaxStatementsPerMethod());
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementBudgetFilter> sqlStatementBudgetFilterRegistration(SqlStatementBudget sqlStatementBudget) {
+        FilterRegistrationBean<SqlStatementBudgetFilter> registration = new FilterRegistrationBean<>(new SqlStatementBudgetFilter(sqlStatementBudget));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1); // 페이지 캐시 등 다른 필터가 실행하는 SQL 까지 세도록 앞쪽에
+
+        return registration;
+    }
+
+    // 트랜잭션 어드바이스처럼 인프라 역할로 등록해야 AOP 스타터 없이 기본 자동 프록시 생성기가 적용한다
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor sqlStatementBudgetAdvisor(ObjectProvider<SqlStatementBudget> sqlStatementBudget) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new AnnotationMatchingPointcut(Service.class, true),
+                new SqlStatementBudgetInterceptor(sqlStatementBudget)
+        );
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE); // 트랜잭션/캐시 어드바이스 바깥
+
+        return advisor;
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.sql-budget")
+    public static class SqlBudgetProperties {
+        /**
+         * SQL statements one HTTP request may execute before a warning is logged
+         */
+        private final int maxStatementsPerRequest;
+        /**
+         * SQL statements one service method call may execute before a warning is logged. Nested service calls count toward the caller as well
+         */
+        private final int maxStatementsPerMethod;
+    }
+}
@@ -0,0 +1,93 @@
+package com.fastcampus.projectboard.config;
+
+import com.fastcampus.projectboard.datasource.SnapshotExporter;
+import com.fastcampus.projectboard.datasource.SnapshotRestoringPostProcessor;
+import com.fastcampus.projectboard.metrics.StartupPhaseReporter;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.ReflectionUtils;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+@Configuration
+public class StartupConfig { // 빠른 기동 모드 (application-fast-startup.yml)와 기동 단계 보고
+    // 다른 빈이 만들어지기 전에 등록되어야 하므로 static. 프로퍼티 바인딩 전이라 Environment 에서 직접 읽는다
+    @Bean
+    @ConditionalOnProperty("board.startup.snapshot.restore-from")
+    public static SnapshotRestoringPostProcessor snapshotRestoringPostProcessor(Environment environment) {
+        return new SnapshotRestoringPostProcessor(Path.of(environment.getRequiredProperty("board.startup.snapshot.restore-from")));
+    }
+
+    @Bean
+    @ConditionalOnProperty("board.startup.snapshot.export-to")
+    public SnapshotExporter snapshotExporter(DataSource dataSource, StartupProperties startupProperties) {
+        return new SnapshotExporter(dataSource, Path.of(startupProperties.getSnapshot().getExportTo()));
+    }
+
+    // 지연 초기화(spring.main.lazy-initialization)에서도 주기 작업은 기동 시 시작되어야 한다. 빈이 만들어져야 @Scheduled 가 등록된다
+    @Bean
+    public static LazyInitializationExcludeFilter scheduledBeansLazyInitializationExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> Arrays.stream(ReflectionUtils.getUniqueDeclaredMethods(beanType))
+                .anyMatch(method -> AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+    }
+
+    // fanOutExecutor 가 있으면 Boot 의 applicationTaskExecutor 가 만들어지지 않는다. 이 빈이 없으면 실행기가 여럿(fanOutExecutor, taskScheduler)이라
+    // 리포지토리 지연 부트스트랩(spring.data.jpa.repositories.bootstrap-mode: deferred)이 쓸 실행기를 고르지 못하고 EntityManagerFactory 를 기동 스레드에서 만든다
+    @Lazy
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder taskExecutorBuilder) {
+        return taskExecutorBuilder.build();
+    }
+
+    @Bean
+    public StartupPhaseReporter startupPhaseReporter(StartupProperties startupProperties) {
+        return new StartupPhaseReporter(startupProperties.getReportTopSteps());
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.startup")
+    public static class StartupProperties {
+        /**
+         * Number of slowest bean creation steps listed in the startup report
+         */
+        private final int reportTopSteps;
+        /**
+         * H2 snapshot used by the fast-startup profile instead of schema creation and data.sql
+         */
+        private final Snapshot snapshot;
+
+        @RequiredArgsConstructor
+        @Getter
+        public static class Snapshot {
+            /**
+             * H2 snapshot restored into the application data source as soon as it is created. Schema creation and data.sql should be turned off when set
+             */
+            private final String restoreFrom;
+            /**
+             * Where to write an H2 snapshot of the database once startup completes. The application exits after writing it
+             */
+            private final String exportTo;
+        }
+    }
+}
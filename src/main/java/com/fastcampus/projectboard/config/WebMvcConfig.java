@@ -0,0 +1,21 @@
+package com.fastcampus.projectboard.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.WebContentInterceptor;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // ETag/Last-Modified 를 내려주는 화면은 저장은 허용하되 매번 재검증(304)하도록 한다
+        // (지정하지 않으면 스프링 시큐리티가 no-store 를 붙여 브라우저/CDN 이 재검증 대신 다시 내려받는다)
+        WebContentInterceptor interceptor = new WebContentInterceptor();
+        interceptor.addCacheMapping(CacheControl.noCache().cachePublic(), "/articles", "/articles/search-hashtag");
+        interceptor.addCacheMapping(CacheControl.noCache().cachePrivate(), "/articles/{articleId:\\d+}"); // 삭제 폼의 CSRF 토큰이 있으므로 공유 캐시 금지
+
+        registry.addInterceptor(interceptor);
+    }
+}
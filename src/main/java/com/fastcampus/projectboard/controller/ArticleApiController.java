@@ -0,0 +1,118 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.dto.ContentVersion;
+import com.fastcampus.projectboard.dto.CursorSlice;
+import com.fastcampus.projectboard.dto.request.ArticleDeleteRequest;
+import com.fastcampus.projectboard.dto.response.ArticleDeleteResponse;
+import com.fastcampus.projectboard.dto.response.ArticleSummaryResponse;
+import com.fastcampus.projectboard.service.ArticleExportService;
+import com.fastcampus.projectboard.service.ArticleService;
+import com.fastcampus.projectboard.service.ArticleVersionService;
+import com.fastcampus.projectboard.service.ArticleViewCountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+import static com.fastcampus.projectboard.controller.CursorValidator.validateCursors;
+
+// Spring Data REST 기본 경로(/api) 아래에 붙는 커스텀 엔드포인트
+@RequiredArgsConstructor
+@RepositoryRestController
+public class ArticleApiController {
+    private static final int MAX_CURSOR_SIZE = 100;
+    private static final int MAX_DELETE_SIZE = 1000; // 한 요청이 트랜잭션과 게시글 락을 오래 잡지 않도록
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final ArticleService articleService;
+    private final ArticleExportService articleExportService;
+    private final ArticleVersionService articleVersionService;
+    private final ArticleViewCountService articleViewCountService;
+
+    // /api/articles 의 키셋 페이지네이션 버전. 깊은 페이지도 OFFSET 스캔 없이 조회
+    @GetMapping("/articles/cursor")
+    public ResponseEntity<CursorSlice<ArticleSummaryResponse>> articlesByCursor(
+            @RequestParam(required = false) String hashtag,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest
+    ) {
+        validateCursors(after, before);
+        ContentVersion version = articleVersionService.getListVersion();
+        if (webRequest.checkNotModified(version.eTag(), version.lastModified())) {
+            return null; // 304
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePublic()) // 저장은 허용하되 매번 재검증
+                .body(articleService.searchArticlesByCursor(hashtag, after, before, Math.min(Math.max(size, 1), MAX_CURSOR_SIZE))
+                        .map(articleViewCountService::withPendingViews)
+                        .map(ArticleSummaryResponse::from));
+    }
+
+    // Spring Data REST 의 기본 삭제(DELETE /api/articles/{id})를 대신한다. 리포지토리를 직접 호출하면 댓글을 한 건씩 지우고 이벤트/캐시 무효화도 빠진다
+    // 관리자만 호출할 수 있다 (SecurityConfig)
+    @DeleteMapping("/articles/{articleId}")
+    public ResponseEntity<Void> deleteArticle(@PathVariable long articleId) {
+        articleService.deleteArticle(articleId);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 게시글 일괄 삭제. 댓글이 많은 게시글도 댓글 수와 무관한 SQL 문 수로 지운다. 관리자만 호출할 수 있고, 한 번에 1000건까지 받는다.
+     * 예) curl -u admin:$BOARD_ADMIN_PASSWORD -X POST -H 'Content-Type: application/json' -d '{"articleIds":[1,2,3]}' localhost:8080/api/articles/delete
+     */
+    @PostMapping("/articles/delete")
+    public ResponseEntity<ArticleDeleteResponse> deleteArticles(@RequestBody ArticleDeleteRequest request) {
+        List<Long> articleIds = Objects.requireNonNullElse(request.articleIds(), List.<Long>of()).stream()
+                .filter(Objects::nonNull)
+                .toList();
+        if (articleIds.size() > MAX_DELETE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 삭제할 수 있는 게시글은 " + MAX_DELETE_SIZE + "건까지입니다.");
+        }
+
+        return ResponseEntity.ok(ArticleDeleteResponse.of(articleService.deleteArticles(articleIds)));
+    }
+
+    /**
+     * 게시판 전체 내보내기 (NDJSON). 응답에 바로 흘려 보내므로 게시판 크기와 무관하게 메모리를 일정하게 쓴다. 관리자만 호출할 수 있다.
+     * 예) curl -u admin:$BOARD_ADMIN_PASSWORD -o board.ndjson.gz 'localhost:8080/api/articles/export?gzip=true'
+     */
+    @GetMapping("/articles/export")
+    public void exportArticles(@RequestParam(defaultValue = "false") boolean gzip, HttpServletResponse response) throws IOException {
+        response.setContentType(gzip ? "application/gzip" : NDJSON);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(gzip ? "articles.ndjson.gz" : "articles.ndjson")
+                .build()
+                .toString());
+
+        if (!gzip) {
+            articleExportService.exportArticles(response.getOutputStream());
+            return;
+        }
+
+        try (GZIPOutputStream out = new GZIPOutputStream(response.getOutputStream(), GZIP_BUFFER_SIZE)) {
+            articleExportService.exportArticles(out);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.dto.ContentVersion;
+import com.fastcampus.projectboard.dto.CursorSlice;
+import com.fastcampus.projectboard.dto.response.ArticleCommentResponse;
+import com.fastcampus.projectboard.service.ArticleCommentService;
+import com.fastcampus.projectboard.service.ArticleVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+
+import static com.fastcampus.projectboard.controller.CursorValidator.validateCursors;
+
+@RequiredArgsConstructor
+@RepositoryRestController
+public class ArticleCommentApiController {
+    private static final int MAX_WINDOW_SIZE = 100;
+
+    private final ArticleCommentService articleCommentService;
+    private final ArticleVersionService articleVersionService;
+
+    // 게시글 상세의 댓글 다음 창. 상세 페이지가 넘겨준 커서부터 이어서 조회
+    @GetMapping("/articles/{articleId}/comments")
+    public ResponseEntity<CursorSlice<ArticleCommentResponse>> articleComments(
+            @PathVariable Long articleId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest
+    ) {
+        validateCursors(after);
+        ContentVersion version = articleVersionService.getArticleVersion(articleId);
+        if (webRequest.checkNotModified(version.eTag(), version.lastModified())) {
+            return null; // 304
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePublic()) // 저장은 허용하되 매번 재검증
+                .body(articleCommentService.searchArticleComments(articleId, after, Math.min(Math.max(size, 1), MAX_WINDOW_SIZE))
+                        .map(ArticleCommentResponse::from));
+    }
+}
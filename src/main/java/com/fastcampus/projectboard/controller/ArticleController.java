@@ -1,39 +1,80 @@
 package com.fastcampus.projectboard.controller;
 
+import com.fastcampus.projectboard.concurrent.FanOut;
 import com.fastcampus.projectboard.domain.constant.FormStatus;
 import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.dto.ContentVersion;
+import com.fastcampus.projectboard.dto.CursorSlice;
 import com.fastcampus.projectboard.dto.UserAccountDto;
 import com.fastcampus.projectboard.dto.request.ArticleRequest;
+import com.fastcampus.projectboard.dto.response.ArticleCommentResponse;
 import com.fastcampus.projectboard.dto.response.ArticleResponse;
-import com.fastcampus.projectboard.dto.response.ArticleWithCommentsResponse;
+import com.fastcampus.projectboard.dto.response.ArticleSummaryResponse;
+import com.fastcampus.projectboard.service.ArticleCommentService;
 import com.fastcampus.projectboard.service.ArticleService;
+import com.fastcampus.projectboard.service.ArticleVersionService;
+import com.fastcampus.projectboard.service.ArticleViewCountService;
 import com.fastcampus.projectboard.service.PaginationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.security.web.csrf.CsrfToken;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.ModelMap;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
 import java.util.List;
 
+import static com.fastcampus.projectboard.controller.CursorValidator.validateCursors;
+
 @RequiredArgsConstructor
 @RequestMapping("/articles")
 @Controller
 public class ArticleController {
+    private static final int COMMENT_WINDOW_SIZE = 20;
+
     private final ArticleService articleService;
+    private final ArticleCommentService articleCommentService;
+    private final ArticleVersionService articleVersionService;
+    private final ArticleViewCountService articleViewCountService;
     private final PaginationService paginationService;
+    private final FanOut fanOut;
 
     @GetMapping
     public String articles(
             @RequestParam(required = false) SearchType searchType,
             @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) String after, // 커서 모드: after/before 중 하나가 있으면 OFFSET 대신 키셋 페이지네이션
+            @RequestParam(required = false) String before,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable, // 한 페이지에 10개
-            ModelMap map
+            ModelMap map,
+            WebRequest webRequest
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
+        validateCursors(after, before);
+
+        // 게시글 변경이 없었으면 조회/렌더링 없이 304
+        if (isNotModified(articleVersionService.getListVersion(), webRequest)) { return null; }
+
+        if ((after != null || before != null) && (searchValue == null || searchValue.isBlank())) {
+            addCursorAttributes(articleService.searchArticlesByCursor(null, after, before, pageable.getPageSize()), map);
+            map.addAttribute("searchTypes", SearchType.values());
+
+            return "articles/index";
+        }
+
+        Page<ArticleSummaryResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(this::toSummaryResponse);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
 
         map.addAttribute("articles", articles);
@@ -44,21 +85,35 @@ public class ArticleController {
     }
 
     @GetMapping("/{articleId}")
-    public String article(@PathVariable Long articleId, ModelMap map) {
-        ArticleWithCommentsResponse article =  ArticleWithCommentsResponse.from(articleService.getArticleWithComments(articleId));
-
-        map.addAttribute(
-                "article",
-               article
-        );
-        map.addAttribute(
-                "articleComments",
-                article.articleCommentsResponse()
-        );
-        map.addAttribute(
-                "totalCount",
-                articleService.getArticleCount()
-        );
+    public String article(
+            @PathVariable Long articleId,
+            @RequestParam(required = false) String commentsAfter, // 댓글 "더 보기" 커서
+            ModelMap map,
+            WebRequest webRequest
+    ) {
+        validateCursors(commentsAfter);
+
+        // 게시글/댓글 수정 시각만 집계. 없는 게시글이면 여기서 예외로 끝나므로 조회수 카운터가 생기지 않는다
+        ContentVersion version = articleVersionService.getArticleVersion(articleId, viewerOf(webRequest));
+
+        // 304 로 응답하는 경우도 조회로 센다. 댓글 "더 보기" 는 같은 게시글의 추가 조회이므로 제외
+        if (commentsAfter == null) { articleViewCountService.increaseViewCount(articleId); }
+
+        // 변경이 없었으면 304
+        if (isNotModified(version, webRequest)) { return null; }
+
+        // 게시글과 댓글은 서로 독립적인 조회이므로 동시에 실행. 댓글은 전부 싣지 않고 한 창씩만 조회
+        FanOut.Branch<ArticleDto> articleBranch = fanOut.fork("article", () -> articleService.getArticle(articleId));
+        FanOut.Branch<CursorSlice<ArticleCommentDto>> articleCommentsBranch = fanOut.fork("articleComments",
+                () -> articleCommentService.searchArticleComments(articleId, commentsAfter, COMMENT_WINDOW_SIZE));
+
+        ArticleResponse article = ArticleResponse.from(articleViewCountService.withPendingViews(articleBranch.join()));
+        CursorSlice<ArticleCommentResponse> articleComments = articleCommentsBranch.join().map(ArticleCommentResponse::from);
+
+        map.addAttribute("article", article);
+        map.addAttribute("articleComments", articleComments.content());
+        map.addAttribute("nextCommentsCursor", articleComments.nextCursor());
+        map.addAttribute("totalCount", articleService.getArticleCount());
 
         return "articles/detail";
     }
@@ -66,10 +121,24 @@ public class ArticleController {
     @GetMapping("/search-hashtag")
     public String searchArticleHashtag(
             @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable, // 한 페이지에 10개
-            ModelMap map
+            ModelMap map,
+            WebRequest webRequest
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleResponse::from);
+        validateCursors(after, before);
+        if (isNotModified(articleVersionService.getListVersion(), webRequest)) { return null; }
+
+        if ((after != null || before != null) && searchValue != null && !searchValue.isBlank()) {
+            addCursorAttributes(articleService.searchArticlesByCursor(searchValue, after, before, pageable.getPageSize()), map);
+            map.addAttribute("hashtags", articleService.getHashtags());
+            map.addAttribute("searchType", SearchType.HASHTAG);
+
+            return "articles/search-hashtag";
+        }
+
+        Page<ArticleSummaryResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(this::toSummaryResponse);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
         List<String> hashtags = articleService.getHashtags();
 
@@ -81,6 +150,37 @@ public class ArticleController {
         return "articles/search-hashtag";
     }
 
+    // 상세 화면을 보는 사람. 세션별 CSRF 토큰과 로그인 사용자의 해시 (ETag 에 들어가므로 토큰 원문은 쓰지 않는다)
+    private static String viewerOf(WebRequest webRequest) {
+        CsrfToken csrfToken = (CsrfToken) webRequest.getAttribute(CsrfToken.class.getName(), RequestAttributes.SCOPE_REQUEST);
+        Principal principal = webRequest.getUserPrincipal();
+        String viewer = (principal == null ? "" : principal.getName()) + "|" + (csrfToken == null ? "" : csrfToken.getToken());
+
+        return DigestUtils.md5DigestAsHex(viewer.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 조건부 요청 검증. 304 로 응답하는 경우 ETag/Last-Modified 헤더도 함께 설정된다
+    private static boolean isNotModified(ContentVersion version, WebRequest webRequest) {
+        return webRequest.checkNotModified(version.eTag(), version.lastModified());
+    }
+
+    // 목록의 조회수에는 아직 DB 에 반영되지 않은 증가분을 더한다
+    private ArticleSummaryResponse toSummaryResponse(ArticleSummaryDto dto) {
+        return ArticleSummaryResponse.from(articleViewCountService.withPendingViews(dto));
+    }
+
+    // 커서 모드에서는 전체 건수를 모르므로 Page 대신 Slice 와 다음/이전 커서를 넘긴다
+    private void addCursorAttributes(CursorSlice<ArticleSummaryDto> cursorSlice, ModelMap map) {
+        CursorSlice<ArticleSummaryResponse> articles = cursorSlice.map(this::toSummaryResponse);
+
+        map.addAttribute("articles", new SliceImpl<>(
+                articles.content(),
+                PageRequest.of(0, Math.max(articles.content().size(), 1), Sort.by(Sort.Direction.DESC, "createdAt")),
+                articles.hasNext()
+        ));
+        map.addAttribute("cursors", articles);
+    }
+
     @GetMapping("/form")
     public String articleForm(ModelMap map) {
         map.addAttribute("formStatus", FormStatus.CREATE);
@@ -0,0 +1,45 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.domain.constant.ImportFormat;
+import com.fastcampus.projectboard.dto.response.ImportReport;
+import com.fastcampus.projectboard.service.ArticleImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 대량 가져오기. 요청 본문을 스트림으로 읽으므로 크기 제한 없이 보낼 수 있다 (UTF-8). 관리자만 호출할 수 있다 (HTTP Basic).
+ * 예) curl -u admin:$BOARD_ADMIN_PASSWORD -X POST -H 'Content-Type: application/x-ndjson' --data-binary @articles.jsonl localhost:8080/api/articles/import
+ *     curl -u admin:$BOARD_ADMIN_PASSWORD -X POST -H 'Content-Type: text/csv' --data-binary @comments.csv localhost:8080/api/articleComments/import
+ */
+@RequiredArgsConstructor
+@RepositoryRestController
+public class ArticleImportApiController {
+    private final ArticleImportService articleImportService;
+
+    @PostMapping("/articles/import")
+    public ResponseEntity<ImportReport> importArticles(HttpServletRequest request) throws IOException {
+        try (Reader reader = bodyReader(request)) {
+            return ResponseEntity.ok(articleImportService.importArticles(reader, ImportFormat.fromContentType(request.getContentType())));
+        }
+    }
+
+    @PostMapping("/articleComments/import")
+    public ResponseEntity<ImportReport> importArticleComments(HttpServletRequest request) throws IOException {
+        try (Reader reader = bodyReader(request)) {
+            return ResponseEntity.ok(articleImportService.importArticleComments(reader, ImportFormat.fromContentType(request.getContentType())));
+        }
+    }
+
+    private static Reader bodyReader(HttpServletRequest request) throws IOException {
+        return new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+    }
+}
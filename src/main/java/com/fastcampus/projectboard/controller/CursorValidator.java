@@ -0,0 +1,22 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.dto.KeysetCursor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+// 화면과 API 가 함께 쓰는 커서 파라미터 검사
+final class CursorValidator {
+    private CursorValidator() {}
+
+    // 손으로 고친 URL 등 해석할 수 없는 커서는 서버 오류(500)가 아니라 잘못된 요청(400)으로 응답
+    static void validateCursors(String... cursors) {
+        for (String cursor : cursors) {
+            if (cursor == null || cursor.isBlank()) { continue; }
+            try {
+                KeysetCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.dto.HashtagUsageDto;
+import com.fastcampus.projectboard.service.HashtagCatalogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RepositoryRestController
+public class HashtagApiController {
+    private static final int MAX_LIMIT = 100;
+
+    private final HashtagCatalogService hashtagCatalogService;
+
+    // 태그 클라우드용 인기 해시태그. DB 조회 없이 메모리 카탈로그에서 응답
+    @GetMapping("/hashtags/popular")
+    @ResponseBody
+    public List<HashtagUsageDto> popularHashtags(@RequestParam(defaultValue = "20") int limit) {
+        return hashtagCatalogService.getTopHashtags(Math.min(Math.max(limit, 1), MAX_LIMIT));
+    }
+}
@@ -0,0 +1,42 @@
+package com.fastcampus.projectboard.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 읽기 전용 트랜잭션도 레플리카가 아닌 프라이머리에서 읽도록 고정하는 표시.
+ * 복제 지연 때문에 옛 데이터를 읽으면 안 되는 경우(방금 쓴 글을 다시 읽는 요청, 오래 남는 캐시를 채우는 조회)에 쓴다.
+ * 고정은 커넥션을 얻는 시점(트랜잭션의 첫 쿼리)에 확인하므로, 이미 시작된 트랜잭션에는 영향이 없을 수 있다.
+ */
+public final class PrimaryReads {
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryReads() {}
+
+    /**
+     * @return 이번 호출로 새로 고정했으면 true. true 일 때만 {@link #unpin()} 해야 바깥의 고정을 풀지 않는다
+     */
+    public static boolean pin() {
+        if (isPinned()) { return false; }
+
+        PINNED.set(Boolean.TRUE);
+        return true;
+    }
+
+    public static void unpin() {
+        PINNED.remove();
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    // supplier 안의 조회를 프라이머리에서 실행
+    public static <T> T call(Supplier<T> supplier) {
+        boolean pinned = pin();
+        try {
+            return supplier.get();
+        } finally {
+            if (pinned) { unpin(); }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.fastcampus.projectboard.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 레플리카로, 그 외(쓰기 트랜잭션, 트랜잭션 밖의 쿼리, {@link PrimaryReads} 로 고정된 요청)는 프라이머리로 보내는 DataSource.
+ * 레플리카는 건강한 것들 중에서 돌아가며 고른다. 커넥션을 얻지 못한 레플리카는 다음 점검을 통과할 때까지 빼고, 그동안의 읽기는 프라이머리가 대신한다.
+ * 트랜잭션의 readOnly 여부는 트랜잭션이 시작된 뒤에야 동기화되므로, 반드시 LazyConnectionDataSourceProxy 뒤에 두어 첫 쿼리 때 커넥션을 얻게 해야 한다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+    public static final String PRIMARY = "primary";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final Set<String> unhealthyReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        Map<Object, Object> targetDataSources = new HashMap<>(replicas);
+        targetDataSources.put(PRIMARY, primary);
+        setTargetDataSources(targetDataSources); // 라우팅 자체는 아래 getConnection 에서 하지만, actuator 헬스 체크가 대상별로 보여준다
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.replicaKeys = List.copyOf(replicas.keySet());
+    }
+
+    @Override
+    protected String determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PrimaryReads.isPinned()) {
+            return PRIMARY;
+        }
+
+        return nextHealthyReplica();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+
+        try {
+            return replicas.get(key).getConnection();
+        } catch (SQLException e) {
+            markUnhealthy(key, e);
+            return primary.getConnection(); // 읽기 요청은 실패시키지 않고 프라이머리로 대신한다
+        }
+    }
+
+    // 빠진 레플리카는 되살리고, 응답하지 않는 레플리카는 뺀다
+    @Scheduled(fixedDelayString = "${board.datasource.routing.health-check-interval:PT5S}")
+    public void checkReplicas() {
+        replicas.forEach((key, dataSource) -> {
+            try (Connection connection = dataSource.getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("connection is not valid");
+                }
+                if (unhealthyReplicas.remove(key)) {
+                    log.info("레플리카 복귀 - {}", key);
+                }
+            } catch (SQLException e) {
+                markUnhealthy(key, e);
+            }
+        });
+    }
+
+    public Set<String> getUnhealthyReplicas() {
+        return Set.copyOf(unhealthyReplicas);
+    }
+
+    // 레플리카 커넥션 풀은 이 DataSource 가 만든 것이므로 함께 닫는다 (프라이머리는 별도 빈)
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) { closeable.close(); }
+        }
+    }
+
+    // 돌아가며 고르되 빠진 레플리카는 건너뛴다. 모두 빠졌으면 프라이머리
+    private String nextHealthyReplica() {
+        int size = replicaKeys.size();
+        if (size == 0) { return PRIMARY; }
+
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (!unhealthyReplicas.contains(key)) { return key; }
+        }
+
+        return PRIMARY;
+    }
+
+    private void markUnhealthy(String key, SQLException e) {
+        if (unhealthyReplicas.add(key)) {
+            log.warn("레플리카 제외 - {}: {}", key, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.fastcampus.projectboard.datasource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 일반 기동(스키마 생성, data.sql, 해시태그 마이그레이션)이 끝난 DB 를 스냅숏으로 내보내고 애플리케이션을 종료한다.
+ * 빠른 기동 모드는 이 스냅숏을 복원하므로 마이그레이션까지 끝난 상태로 시작한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SnapshotExporter implements ApplicationListener<ApplicationReadyEvent> {
+    private final DataSource dataSource;
+    private final Path snapshot;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        try (Connection connection = dataSource.getConnection()) {
+            Path directory = snapshot.toAbsolutePath().getParent();
+            if (directory != null) { Files.createDirectories(directory); }
+            H2Snapshot.export(connection, snapshot);
+        } catch (SQLException e) {
+            throw new IllegalStateException("스냅숏 내보내기 실패 - " + snapshot, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("스냅숏 저장 - {} ({} bytes)", snapshot.toAbsolutePath(), snapshot.toFile().length());
+
+        System.exit(SpringApplication.exit(event.getApplicationContext(), () -> 0));
+    }
+}
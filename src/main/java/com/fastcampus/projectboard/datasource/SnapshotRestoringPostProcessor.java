@@ -0,0 +1,39 @@
+package com.fastcampus.projectboard.datasource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 빠른 기동 모드에서 애플리케이션 DataSource 가 만들어지자마자 스냅숏을 복원한다.
+ * 다른 빈은 후처리가 끝난 DataSource 만 받으므로, JPA 와 기동 시 러너/리스너가 조회하기 전에 데이터가 채워져 있다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SnapshotRestoringPostProcessor implements BeanPostProcessor {
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    private final Path snapshot;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (!DATA_SOURCE_BEAN_NAME.equals(beanName) || !(bean instanceof DataSource dataSource)) { return bean; }
+
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            H2Snapshot.restore(connection, snapshot);
+        } catch (SQLException e) {
+            throw new BeanInitializationException("스냅숏 복원 실패 - " + snapshot, e);
+        }
+        log.info("스냅숏 복원 완료 - {}: {}ms", snapshot, (System.nanoTime() - start) / 1_000_000);
+
+        return bean;
+    }
+}
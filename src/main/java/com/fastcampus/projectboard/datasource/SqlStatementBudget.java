@@ -0,0 +1,47 @@
+package com.fastcampus.projectboard.datasource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 범위별 SQL 문 수와 읽어 들인 엔티티 수를 메트릭으로 남기고, 예산을 넘은 범위는 경고 로그를 남긴다.
+ * 메트릭은 scope(request, method)와 name(요청 패턴, 서비스 메서드)으로 나뉜다 (board.sql.statements, board.sql.entity-loads).
+ * N+1 이 생기면 요청당 SQL 문 수의 최댓값이 목록 크기만큼 뛰므로, 배포 전후 이 값을 비교하면 된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementBudget {
+    public static final String STATEMENTS_SUMMARY = "board.sql.statements";
+    public static final String ENTITY_LOADS_SUMMARY = "board.sql.entity-loads";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatementsPerRequest;
+    private final int maxStatementsPerMethod;
+
+    public void recordRequest(String name, SqlStatementCounter counter) {
+        record("request", name, counter, maxStatementsPerRequest);
+    }
+
+    public void recordMethod(String name, SqlStatementCounter counter) {
+        record("method", name, counter, maxStatementsPerMethod);
+    }
+
+    private void record(String scope, String name, SqlStatementCounter counter, int maxStatements) {
+        DistributionSummary.builder(STATEMENTS_SUMMARY)
+                .tag("scope", scope)
+                .tag("name", name)
+                .register(meterRegistry)
+                .record(counter.getStatementCount());
+        DistributionSummary.builder(ENTITY_LOADS_SUMMARY)
+                .tag("scope", scope)
+                .tag("name", name)
+                .register(meterRegistry)
+                .record(counter.getEntityLoadCount());
+
+        if (counter.getStatementCount() > maxStatements) {
+            log.warn("SQL 문 예산 초과 ({} 예산 {}) - {}: {}", scope, maxStatements, name, counter.summary());
+        }
+    }
+}
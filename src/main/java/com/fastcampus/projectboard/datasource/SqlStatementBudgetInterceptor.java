@@ -0,0 +1,37 @@
+package com.fastcampus.projectboard.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 서비스 메서드 호출마다 SQL 문 수를 센다.
+ * 트랜잭션/캐시 어드바이스보다 바깥에서 실행되므로 커밋 시 flush 되는 SQL 까지 세고, 캐시에서 응답한 호출은 0 으로 센다.
+ */
+@RequiredArgsConstructor
+public class SqlStatementBudgetInterceptor implements MethodInterceptor {
+    private final ObjectProvider<SqlStatementBudget> sqlStatementBudget; // 어드바이저는 일찍 만들어지므로 메트릭 레지스트리를 늦게 찾는다
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        SqlStatementCounter counter = SqlStatementCounter.open();
+        SqlStatementCounter previous = SqlStatementCounter.bind(counter);
+        try {
+            return invocation.proceed();
+        } finally {
+            SqlStatementCounter.restore(previous);
+            sqlStatementBudget.getObject().recordMethod(methodName(invocation), counter);
+        }
+    }
+
+    private static String methodName(MethodInvocation invocation) {
+        Class<?> targetClass = invocation.getThis() == null
+                ? invocation.getMethod().getDeclaringClass()
+                : AopUtils.getTargetClass(invocation.getThis());
+
+        return ClassUtils.getShortName(targetClass) + "." + invocation.getMethod().getName();
+    }
+}
@@ -0,0 +1,111 @@
+package com.fastcampus.projectboard.datasource;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 한 범위(HTTP 요청, 서비스 메서드 호출)에서 실행된 SQL 문 수와 엔티티로 읽어 들인 행 수.
+ * 현재 스레드에 걸어 두면 Hibernate 가 SQL 을 준비할 때마다, 엔티티를 읽을 때마다 센다 ({@link SqlStatementCountingInterceptor}).
+ * 안쪽 범위(요청 안의 서비스 메서드)의 카운트는 바깥 범위에도 더해진다.
+ * 팬아웃 갈래는 다른 스레드에서 같은 카운터를 쓰므로 스레드 안전하게 센다.
+ */
+public class SqlStatementCounter {
+    private static final ThreadLocal<SqlStatementCounter> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatementCounter parent;
+    private final Map<StatementType, LongAdder> statements = new EnumMap<>(StatementType.class);
+    private final LongAdder entityLoads = new LongAdder();
+
+    private SqlStatementCounter(SqlStatementCounter parent) {
+        this.parent = parent;
+        Arrays.stream(StatementType.values()).forEach(type -> statements.put(type, new LongAdder()));
+    }
+
+    // 현재 범위 안에 새 범위를 연다 (현재 범위가 없으면 최상위)
+    public static SqlStatementCounter open() {
+        return new SqlStatementCounter(CURRENT.get());
+    }
+
+    public static SqlStatementCounter current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드에 카운터를 건다.
+     *
+     * @return 원래 걸려 있던 카운터. 끝나면 {@link #restore(SqlStatementCounter)} 로 되돌린다
+     */
+    public static SqlStatementCounter bind(SqlStatementCounter counter) {
+        SqlStatementCounter previous = CURRENT.get();
+        CURRENT.set(counter);
+
+        return previous;
+    }
+
+    public static void restore(SqlStatementCounter previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    static void recordStatement(String sql) {
+        StatementType type = StatementType.of(sql);
+        for (SqlStatementCounter counter = CURRENT.get(); counter != null; counter = counter.parent) {
+            counter.statements.get(type).increment();
+        }
+    }
+
+    static void recordEntityLoad() {
+        for (SqlStatementCounter counter = CURRENT.get(); counter != null; counter = counter.parent) {
+            counter.entityLoads.increment();
+        }
+    }
+
+    public long getStatementCount() {
+        return statements.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public long getStatementCount(StatementType type) {
+        return statements.get(type).sum();
+    }
+
+    public long getEntityLoadCount() {
+        return entityLoads.sum();
+    }
+
+    // 로그용 요약. 예) statements=12 (select=10, insert=1, update=1, delete=0, other=0), entityLoads=40
+    public String summary() {
+        return "statements=" + getStatementCount()
+                + statements.entrySet().stream()
+                        .map(entry -> entry.getKey().name().toLowerCase(Locale.ROOT) + "=" + entry.getValue().sum())
+                        .collect(Collectors.joining(", ", " (", ")"))
+                + ", entityLoads=" + getEntityLoadCount();
+    }
+
+    public enum StatementType {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        // 앞쪽 공백과 주석(/* ... */)을 건너뛴 첫 단어로 구분
+        static StatementType of(String sql) {
+            String statement = sql.stripLeading();
+            while (statement.startsWith("/*") && statement.contains("*/")) {
+                statement = statement.substring(statement.indexOf("*/") + 2).stripLeading();
+            }
+
+            String keyword = statement.split("\\s", 2)[0].toLowerCase(Locale.ROOT);
+            return switch (keyword) {
+                case "select", "with" -> SELECT;
+                case "insert", "merge" -> INSERT;
+                case "update" -> UPDATE;
+                case "delete" -> DELETE;
+                default -> OTHER;
+            };
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.fastcampus.projectboard.datasource;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+
+/**
+ * Hibernate 가 준비하는 SQL 문과 엔티티로 읽어 들이는 행을 현재 스레드의 {@link SqlStatementCounter} 에 센다.
+ * 세션 팩토리 전체에 하나만 등록하므로 상태가 없어야 한다. 카운터가 걸려 있지 않으면 아무것도 하지 않는다.
+ */
+public class SqlStatementCountingInterceptor extends EmptyInterceptor implements StatementInspector {
+    @Override
+    public String inspect(String sql) {
+        SqlStatementCounter.recordStatement(sql);
+
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Serializable id, Object[] state, String[] propertyNames, Type[] types) {
+        SqlStatementCounter.recordEntityLoad();
+
+        return false;
+    }
+}
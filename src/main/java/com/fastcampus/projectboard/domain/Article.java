@@ -1,8 +1,12 @@
 package com.fastcampus.projectboard.domain;
 
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -19,7 +23,17 @@ import java.util.Set;
 @Entity
 public class Article extends AuditingFields {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_seq")
+    @GenericGenerator( // IDENTITY 는 insert 시점에 ID 를 받아야 해서 JDBC 배치가 꺼진다. ID 를 50개씩 미리 할당받아 배치 insert 가능
+            name = "article_seq",
+            strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+            parameters = {
+                    @Parameter(name = "sequence_name", value = "article_seq"),
+                    @Parameter(name = "force_table_use", value = "true"), // MySQL 에는 시퀀스가 없으므로 DB 와 무관하게 테이블 사용
+                    @Parameter(name = "increment_size", value = "50"),
+                    @Parameter(name = "optimizer", value = "pooled-lo")
+            }
+    )
     private Long id;
 
     @Setter @ManyToOne(optional = false) @JoinColumn(name = "userId") private UserAccount userAccount; // 유저 정보 (ID)
@@ -27,9 +41,25 @@ public class Article extends AuditingFields {
     @Setter @Column(nullable = false) private String title;
     @Setter @Column(nullable = false, length = 10000) private String content;
 
-    // nullable = true
+    // nullable = true. 사용자가 입력한 원본 해시태그 문자열 ("#java #spring")
     @Setter private String hashtag;
 
+    // 조회수. 메모리에 모아 둔 증가분을 주기적으로 SQL 에서 더하므로(view_count = view_count + ?), 엔티티 수정 시 덮어쓰지 않도록 insert/update 에서 제외
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long viewCount;
+
+    // 정규화된 해시태그. (hashtagId, articleId) 인덱스로 태그 -> 게시글 조회를 커버링 인덱스로 처리
+    @ToString.Exclude
+    @JoinTable(
+            name = "article_hashtag",
+            joinColumns = @JoinColumn(name = "articleId"),
+            inverseJoinColumns = @JoinColumn(name = "hashtagId"),
+            indexes = @Index(columnList = "hashtagId, articleId")
+    )
+    @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    private final Set<Hashtag> hashtags = new LinkedHashSet<>();
+
     // 양방향 바인딩
     @ToString.Exclude // 순환 참조 방지
     @OrderBy("createdAt DESC")
@@ -47,6 +77,11 @@ public class Article extends AuditingFields {
         return new Article(userAccount, title, content, hashtag);
     }
 
+    public void replaceHashtags(Collection<Hashtag> hashtags) {
+        this.hashtags.clear();
+        this.hashtags.addAll(hashtags);
+    }
+
     // id 에 대해서만 equals and hashCode
     @Override
     public boolean equals(Object o) {
@@ -1,6 +1,8 @@
 package com.fastcampus.projectboard.domain;
 
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 import java.util.Objects;
@@ -9,6 +11,8 @@ import java.util.Objects;
 @ToString(callSuper = true)
 @Table(indexes = {
         @Index(columnList = "content"),
+        @Index(columnList = "articleId, createdAt"), // 게시글별 댓글 키셋 페이지네이션
+        @Index(columnList = "articleId, modifiedAt"), // 게시글 버전(댓글 최종 수정 시각, 댓글 수)을 테이블을 읽지 않고 인덱스만으로 집계
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
@@ -16,10 +20,20 @@ import java.util.Objects;
 @Entity
 public class ArticleComment extends AuditingFields {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_comment_seq")
+    @GenericGenerator( // 게시글과 마찬가지로 ID 를 미리 할당받아 배치 insert 가능
+            name = "article_comment_seq",
+            strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+            parameters = {
+                    @Parameter(name = "sequence_name", value = "article_comment_seq"),
+                    @Parameter(name = "force_table_use", value = "true"), // MySQL 에는 시퀀스가 없으므로 DB 와 무관하게 테이블 사용
+                    @Parameter(name = "increment_size", value = "50"),
+                    @Parameter(name = "optimizer", value = "pooled-lo")
+            }
+    )
     private Long id;
 
-    @Setter @ManyToOne(optional = false) private Article article;
+    @Setter @ManyToOne(optional = false) @JoinColumn(name = "articleId") private Article article; // 게시글 (ID)
     @Setter @ManyToOne(optional = false) @JoinColumn(name = "userId") private UserAccount userAccount; // 유저 정보 (ID)
 
     @Setter @Column(nullable = false, length = 500) private String content;
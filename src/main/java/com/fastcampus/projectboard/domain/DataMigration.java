@@ -0,0 +1,40 @@
+package com.fastcampus.projectboard.domain;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// 기동 시 실행하는 데이터 마이그레이션의 완료 기록. 끝난 마이그레이션은 다음 기동부터 대상을 찾지 않는다
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class DataMigration {
+    @Id @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false) private LocalDateTime completedAt;
+
+    private DataMigration(String name, LocalDateTime completedAt) {
+        this.name = name;
+        this.completedAt = completedAt;
+    }
+
+    public static DataMigration of(String name, LocalDateTime completedAt) {
+        return new DataMigration(name, completedAt);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DataMigration dataMigration)) return false;
+        return name != null && name.equals(dataMigration.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
+}
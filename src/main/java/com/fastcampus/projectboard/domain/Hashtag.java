@@ -0,0 +1,51 @@
+package com.fastcampus.projectboard.domain;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+@Getter
+@ToString(callSuper = true)
+@Table(indexes = {
+        @Index(columnList = "hashtagName", unique = true),
+        @Index(columnList = "createdAt"),
+        @Index(columnList = "createdBy")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class Hashtag extends AuditingFields {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 정규화된 해시태그 이름 ('#' 제외, 소문자)
+    @Column(nullable = false, length = 50) private String hashtagName;
+
+    @ToString.Exclude // 순환 참조 방지
+    @ManyToMany(mappedBy = "hashtags")
+    private final Set<Article> articles = new LinkedHashSet<>();
+
+    private Hashtag(String hashtagName) {
+        this.hashtagName = hashtagName;
+    }
+
+    public static Hashtag of(String hashtagName) {
+        return new Hashtag(hashtagName);
+    }
+
+    // id 에 대해서만 equals and hashCode
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Hashtag hashtag)) return false;
+        return id != null && id.equals(hashtag.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
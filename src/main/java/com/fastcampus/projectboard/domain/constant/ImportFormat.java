@@ -0,0 +1,23 @@
+package com.fastcampus.projectboard.domain.constant;
+
+import org.springframework.http.MediaType;
+
+// 대량 가져오기 입력 형식
+public enum ImportFormat {
+    JSONL, // 한 줄에 JSON 객체 하나
+    CSV; // 첫 줄은 헤더
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    // Content-Type 이 text/csv 면 CSV, 그 외(application/x-ndjson 등)는 JSONL
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType != null && TEXT_CSV.isCompatibleWith(MediaType.parseMediaType(contentType))) { return CSV; }
+
+        return JSONL;
+    }
+
+    // 확장자가 .csv 면 CSV, 그 외는 JSONL
+    public static ImportFormat fromFileName(String fileName) {
+        return fileName.toLowerCase().endsWith(".csv") ? CSV : JSONL;
+    }
+}
@@ -0,0 +1,7 @@
+package com.fastcampus.projectboard.domain.constant;
+
+// 대량 가져오기 대상
+public enum ImportTarget {
+    ARTICLES,
+    ARTICLE_COMMENTS
+}
@@ -0,0 +1,20 @@
+package com.fastcampus.projectboard.dto;
+
+import java.time.LocalDateTime;
+
+// 내보내기 전용 댓글 프로젝션. 엔티티를 만들지 않으므로 영속성 컨텍스트에 쌓이지 않는다
+public record ArticleCommentExportDto(
+        Long id,
+        Long articleId,
+        String userId,
+        String nickname,
+        String content,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime modifiedAt,
+        String modifiedBy
+) {
+    public static ArticleCommentExportDto of(Long id, Long articleId, String userId, String nickname, String content, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
+        return new ArticleCommentExportDto(id, articleId, userId, nickname, content, createdAt, createdBy, modifiedAt, modifiedBy);
+    }
+}
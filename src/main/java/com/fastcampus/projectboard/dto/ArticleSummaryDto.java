@@ -0,0 +1,23 @@
+package com.fastcampus.projectboard.dto;
+
+import java.time.LocalDateTime;
+
+// 게시글 리스트 전용 프로젝션. 본문 전체(content) 대신 앞부분 미리보기만 담는다
+public record ArticleSummaryDto(
+        Long id,
+        String title,
+        String hashtag,
+        String contentPreview,
+        LocalDateTime createdAt,
+        String userId,
+        String nickname,
+        long viewCount
+) {
+    public static ArticleSummaryDto of(Long id, String title, String hashtag, String contentPreview, LocalDateTime createdAt, String userId, String nickname, long viewCount) {
+        return new ArticleSummaryDto(id, title, hashtag, contentPreview, createdAt, userId, nickname, viewCount);
+    }
+
+    public ArticleSummaryDto withViewCount(long viewCount) {
+        return new ArticleSummaryDto(id, title, hashtag, contentPreview, createdAt, userId, nickname, viewCount);
+    }
+}
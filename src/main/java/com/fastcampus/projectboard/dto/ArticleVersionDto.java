@@ -0,0 +1,15 @@
+package com.fastcampus.projectboard.dto;
+
+import java.time.LocalDateTime;
+
+// 게시글 상세 화면의 변경 여부 판단용. 게시글과 댓글 본문은 읽지 않는다
+public record ArticleVersionDto(
+        Long articleId,
+        LocalDateTime modifiedAt,
+        LocalDateTime lastCommentModifiedAt, // 댓글이 없으면 null
+        long commentCount
+) {
+    public static ArticleVersionDto of(Long articleId, LocalDateTime modifiedAt, LocalDateTime lastCommentModifiedAt, long commentCount) {
+        return new ArticleVersionDto(articleId, modifiedAt, lastCommentModifiedAt, commentCount);
+    }
+}
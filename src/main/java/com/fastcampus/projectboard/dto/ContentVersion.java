@@ -0,0 +1,13 @@
+package com.fastcampus.projectboard.dto;
+
+// 조건부 요청(If-None-Match / If-Modified-Since) 검증용 값
+public record ContentVersion(
+        String eTag,
+        long lastModified // epoch millis. NO_LAST_MODIFIED 이면 Last-Modified 를 보내지 않고 If-Modified-Since 도 보지 않는다
+) {
+    public static final long NO_LAST_MODIFIED = -1L;
+
+    public static ContentVersion of(String eTag, long lastModified) {
+        return new ContentVersion(eTag, lastModified);
+    }
+}
@@ -0,0 +1,27 @@
+package com.fastcampus.projectboard.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 키셋 페이지네이션 결과. 다음/이전 창이 없으면 해당 커서는 null
+public record CursorSlice<T>(
+        List<T> content,
+        String nextCursor,
+        String previousCursor
+) {
+    public static <T> CursorSlice<T> of(List<T> content, String nextCursor, String previousCursor) {
+        return new CursorSlice<>(content, nextCursor, previousCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorSlice<>(content.stream().<R>map(mapper).toList(), nextCursor, previousCursor);
+    }
+}
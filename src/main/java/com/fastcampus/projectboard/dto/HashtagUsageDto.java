@@ -0,0 +1,10 @@
+package com.fastcampus.projectboard.dto;
+
+public record HashtagUsageDto(
+        String hashtagName,
+        long articleCount
+) {
+    public static HashtagUsageDto of(String hashtagName, long articleCount) {
+        return new HashtagUsageDto(hashtagName, articleCount);
+    }
+}
@@ -0,0 +1,28 @@
+package com.fastcampus.projectboard.dto.request;
+
+import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.UserAccountDto;
+
+// 댓글 가져오기 입력 한 행. {"articleId": 1, "userId": "uno", "content": "..."}
+public record ArticleCommentImportRow(
+        Long articleId,
+        String userId,
+        String content
+) {
+    public static ArticleCommentImportRow of(Long articleId, String userId, String content) {
+        return new ArticleCommentImportRow(articleId, userId, content);
+    }
+
+    public ArticleCommentDto toDto() {
+        return ArticleCommentDto.of(
+                null,
+                articleId,
+                UserAccountDto.of(userId, null, null, null, null, null, null, null, null), // 저장 시 userId 로 참조만 한다
+                content,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.fastcampus.projectboard.dto.request;
+
+import java.util.List;
+
+// 게시글 일괄 삭제 요청 (POST /api/articles/delete)
+public record ArticleDeleteRequest(
+        List<Long> articleIds
+) {
+    public static ArticleDeleteRequest of(List<Long> articleIds) {
+        return new ArticleDeleteRequest(articleIds);
+    }
+}
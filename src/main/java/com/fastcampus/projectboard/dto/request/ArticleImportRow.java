@@ -0,0 +1,25 @@
+package com.fastcampus.projectboard.dto.request;
+
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.UserAccountDto;
+
+// 게시글 가져오기 입력 한 행. {"userId": "uno", "title": "...", "content": "...", "hashtag": "#java"}
+public record ArticleImportRow(
+        String userId,
+        String title,
+        String content,
+        String hashtag
+) {
+    public static ArticleImportRow of(String userId, String title, String content, String hashtag) {
+        return new ArticleImportRow(userId, title, content, hashtag);
+    }
+
+    public ArticleDto toDto() {
+        return ArticleDto.of(
+                UserAccountDto.of(userId, null, null, null, null, null, null, null, null), // 저장 시 userId 로 참조만 한다
+                title,
+                content,
+                hashtag == null || hashtag.isBlank() ? null : hashtag
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.fastcampus.projectboard.dto.response;
+
+// 게시글 일괄 삭제 결과. 없는 ID 는 건너뛰므로 요청한 수보다 작을 수 있다
+public record ArticleDeleteResponse(
+        long deleted
+) {
+    public static ArticleDeleteResponse of(long deleted) {
+        return new ArticleDeleteResponse(deleted);
+    }
+}
@@ -12,11 +12,12 @@ public record ArticleResponse(
         String hashtag,
         LocalDateTime createdAt,
         String email,
-        String nickname
+        String nickname,
+        long viewCount
 ) implements Serializable {
 
-    public static ArticleResponse of(Long id, String title, String content, String hashtag, LocalDateTime createdAt, String email, String nickname) {
-        return new ArticleResponse(id, title, content, hashtag, createdAt, email, nickname);
+    public static ArticleResponse of(Long id, String title, String content, String hashtag, LocalDateTime createdAt, String email, String nickname, long viewCount) {
+        return new ArticleResponse(id, title, content, hashtag, createdAt, email, nickname, viewCount);
     }
 
     public static ArticleResponse from(ArticleDto dto) {
@@ -32,7 +33,8 @@ public record ArticleResponse(
                 dto.hashtag(),
                 dto.createdAt(),
                 dto.userAccountDto().email(),
-                nickname
+                nickname,
+                dto.viewCount()
         );
     }
 }
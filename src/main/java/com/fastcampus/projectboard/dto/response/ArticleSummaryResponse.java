@@ -0,0 +1,38 @@
+package com.fastcampus.projectboard.dto.response;
+
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+public record ArticleSummaryResponse(
+        Long id,
+        String title,
+        String hashtag,
+        String contentPreview,
+        LocalDateTime createdAt,
+        String nickname,
+        long viewCount
+) implements Serializable {
+
+    public static ArticleSummaryResponse of(Long id, String title, String hashtag, String contentPreview, LocalDateTime createdAt, String nickname, long viewCount) {
+        return new ArticleSummaryResponse(id, title, hashtag, contentPreview, createdAt, nickname, viewCount);
+    }
+
+    public static ArticleSummaryResponse from(ArticleSummaryDto dto) {
+        String nickname = dto.nickname();
+        if (nickname == null || nickname.isBlank()) {
+            nickname = dto.userId();
+        }
+
+        return new ArticleSummaryResponse(
+                dto.id(),
+                dto.title(),
+                dto.hashtag(),
+                dto.contentPreview(),
+                dto.createdAt(),
+                nickname,
+                dto.viewCount()
+        );
+    }
+}
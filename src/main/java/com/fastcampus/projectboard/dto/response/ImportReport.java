@@ -0,0 +1,28 @@
+package com.fastcampus.projectboard.dto.response;
+
+import java.util.List;
+
+/**
+ * 대량 가져오기 결과.
+ *
+ * @param errors 행별 오류. 메모리를 일정하게 쓰기 위해 앞쪽 일부만 담고, 전체 건수는 {@code failed} 로 센다
+ */
+public record ImportReport(
+        long imported,
+        long failed,
+        List<RowError> errors,
+        long elapsedMillis
+) {
+    public static ImportReport of(long imported, long failed, List<RowError> errors, long elapsedMillis) {
+        return new ImportReport(imported, failed, errors, elapsedMillis);
+    }
+
+    /**
+     * @param line 입력의 줄 번호. CSV 는 레코드가 시작하는 줄 (따옴표로 감싼 값 안의 줄바꿈도 센다)
+     */
+    public record RowError(long line, String message) {
+        public static RowError of(long line, String message) {
+            return new RowError(line, message);
+        }
+    }
+}
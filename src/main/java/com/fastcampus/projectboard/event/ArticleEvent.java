@@ -0,0 +1,19 @@
+package com.fastcampus.projectboard.event;
+
+import com.fastcampus.projectboard.dto.ArticleDto;
+
+// 게시글 변경 이벤트. 트랜잭션 커밋 이후에 검색 색인, 카운터 등 부가 저장소를 동기화하는 데 사용
+public record ArticleEvent(
+        Type type,
+        Long articleId,
+        ArticleDto previous, // 변경 전 게시글. 생성 이벤트일 경우 null
+        ArticleDto current // 변경 후 게시글. 삭제 이벤트일 경우 null
+) {
+    public static ArticleEvent of(Type type, Long articleId, ArticleDto previous, ArticleDto current) {
+        return new ArticleEvent(type, articleId, previous, current);
+    }
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
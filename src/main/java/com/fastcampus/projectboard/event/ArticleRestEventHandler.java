@@ -0,0 +1,79 @@
+package com.fastcampus.projectboard.event;
+
+import com.fastcampus.projectboard.config.CacheConfig;
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.service.ArticleService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.rest.core.annotation.HandleAfterCreate;
+import org.springframework.data.rest.core.annotation.HandleAfterDelete;
+import org.springframework.data.rest.core.annotation.HandleAfterLinkDelete;
+import org.springframework.data.rest.core.annotation.HandleAfterLinkSave;
+import org.springframework.data.rest.core.annotation.HandleAfterSave;
+import org.springframework.data.rest.core.annotation.HandleBeforeSave;
+import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Spring Data REST 로 들어온 게시글 쓰기(POST/PUT/PATCH/DELETE /api/articles, 해시태그 링크 변경)는 {@link ArticleService} 를 거치지 않는다.
+ * 저장/삭제가 끝나면 서비스와 같은 {@link ArticleEvent} 를 발행해 색인, 카운터, 해시태그 카탈로그, 목록 버전, 캐시를 맞춘다.
+ * 리포지토리 저장/삭제가 자체 트랜잭션으로 끝난 뒤 호출되므로 커밋 이후에 반영된다.
+ */
+@RequiredArgsConstructor
+@RepositoryEventHandler
+@Component
+public class ArticleRestEventHandler {
+    private final ArticleRepository articleRepository;
+    private final ArticleService articleService;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 수정 전 게시글. 같은 요청 스레드에서 before -> after 순서로 호출된다
+    private final ThreadLocal<ArticleDto> previousArticle = new ThreadLocal<>();
+
+    // 요청 본문이 이미 병합된 엔티티가 넘어오므로, 수정 전 값은 DB 에서 다시 읽는다 (open-in-view 가 꺼져 있어 새로 조회된다)
+    @HandleBeforeSave
+    public void capturePrevious(Article article) {
+        previousArticle.set(articleRepository.findById(article.getId()).map(ArticleDto::from).orElse(null));
+    }
+
+    @HandleAfterCreate
+    public void afterCreate(Article article) {
+        articleService.syncSavedArticle(article.getId(), null);
+    }
+
+    @HandleAfterSave
+    public void afterSave(Article article) {
+        try {
+            articleService.syncSavedArticle(article.getId(), previousArticle.get());
+        }
+        finally {
+            previousArticle.remove();
+        }
+    }
+
+    // 삭제된 엔티티에 작성자(EAGER)까지 들어 있으므로 그대로 이벤트에 싣는다
+    @HandleAfterDelete
+    public void afterDelete(Article article) {
+        cache(CacheConfig.ARTICLE).evict(article.getId());
+        eventPublisher.publishEvent(ArticleEvent.of(ArticleEvent.Type.DELETED, article.getId(), ArticleDto.from(article), null));
+    }
+
+    // 해시태그 링크만 바뀐 경우. 게시글 본문과 원본 해시태그 문자열은 그대로이므로 캐시만 비운다
+    @HandleAfterLinkSave
+    @HandleAfterLinkDelete
+    public void evictLinked(Article article, Object linked) {
+        cache(CacheConfig.ARTICLE).evict(article.getId());
+        cache(CacheConfig.RENDERED_PAGE).clear();
+    }
+
+    private Cache cache(String cacheName) {
+        return Objects.requireNonNull(cacheManager.getCache(cacheName));
+    }
+}
@@ -0,0 +1,41 @@
+package com.fastcampus.projectboard.event;
+
+import com.fastcampus.projectboard.domain.UserAccount;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 회원 닉네임이 바뀌면 {@link NicknameChangedEvent} 를 발행하는 Hibernate 이벤트 리스너.
+ * 닉네임을 바꾸는 서비스가 따로 없으므로 엔티티가 어디서 수정되든 flush 시점에 변경 전후 값을 비교한다.
+ * 트랜잭션 안에서 발행하므로 받는 쪽은 커밋 이후({@code @TransactionalEventListener})에 처리해야 한다.
+ */
+public class NicknameChangeListener implements PostUpdateEventListener {
+    private static final String NICKNAME = "nickname";
+
+    private final transient ApplicationEventPublisher eventPublisher;
+
+    public NicknameChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof UserAccount userAccount)) { return; }
+
+        int nicknameIndex = Arrays.asList(event.getPersister().getPropertyNames()).indexOf(NICKNAME);
+        Object[] oldState = event.getOldState();
+        if (oldState != null && Objects.equals(oldState[nicknameIndex], event.getState()[nicknameIndex])) { return; } // 변경 전 값을 모르면 바뀐 것으로 본다
+
+        eventPublisher.publishEvent(NicknameChangedEvent.of(userAccount.getUserId(), userAccount.getNickname()));
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+}
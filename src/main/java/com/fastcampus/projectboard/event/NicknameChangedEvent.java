@@ -0,0 +1,11 @@
+package com.fastcampus.projectboard.event;
+
+// 회원 닉네임 변경 이벤트. 게시글에 작성자 닉네임을 복제해 둔 부가 저장소(검색 색인)를 동기화하는 데 사용
+public record NicknameChangedEvent(
+        String userId,
+        String nickname // 변경 후 닉네임. null 가능
+) {
+    public static NicknameChangedEvent of(String userId, String nickname) {
+        return new NicknameChangedEvent(userId, nickname);
+    }
+}
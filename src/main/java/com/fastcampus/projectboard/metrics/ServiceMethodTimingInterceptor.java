@@ -0,0 +1,46 @@
+package com.fastcampus.projectboard.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 서비스 메서드 호출 시간을 클래스/메서드/예외별로 기록한다 (board.service.method).
+ * 캐시 어드바이스보다 바깥이므로 캐시에서 응답한 호출도 기록되고, 트랜잭션 커밋 시간까지 포함된다.
+ * 퍼센타일 히스토그램은 management.metrics.distribution 설정으로 켠다.
+ */
+@RequiredArgsConstructor
+public class ServiceMethodTimingInterceptor implements MethodInterceptor {
+    public static final String METHOD_TIMER = "board.service.method";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry; // 어드바이저는 일찍 만들어지므로 메트릭 레지스트리를 늦게 찾는다
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Timer.Sample sample = Timer.start();
+        String exception = "none";
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METHOD_TIMER)
+                    .tag("class", ClassUtils.getShortName(targetClass(invocation)))
+                    .tag("method", invocation.getMethod().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry.getObject()));
+        }
+    }
+
+    private static Class<?> targetClass(MethodInvocation invocation) {
+        return invocation.getThis() == null
+                ? invocation.getMethod().getDeclaringClass()
+                : AopUtils.getTargetClass(invocation.getThis());
+    }
+}
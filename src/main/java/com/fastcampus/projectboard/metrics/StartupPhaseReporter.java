@@ -0,0 +1,60 @@
+package com.fastcampus.projectboard.metrics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * 기동이 끝나면 단계별 소요 시간과 가장 오래 걸린 빈 생성 단계를 로그로 남긴다.
+ * 애플리케이션에 BufferingApplicationStartup 을 걸어 둔 경우에만 동작하며, 같은 내용은 /actuator/startup 으로도 볼 수 있다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class StartupPhaseReporter implements ApplicationListener<ApplicationReadyEvent> {
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+
+    private final int topSteps;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ApplicationStartup applicationStartup = event.getApplicationContext().getApplicationStartup();
+        if (!(applicationStartup instanceof BufferingApplicationStartup bufferingStartup)) { return; }
+
+        // 꺼내지 않고 읽기만 한다 (/actuator/startup 이 같은 기록을 쓴다)
+        List<StartupTimeline.TimelineEvent> events = bufferingStartup.getBufferedTimeline().getEvents();
+
+        String phases = events.stream()
+                .filter(it -> it.getStartupStep().getParentId() == null)
+                .map(it -> "  %-50s %6dms".formatted(it.getStartupStep().getName(), it.getDuration().toMillis()))
+                .collect(Collectors.joining(System.lineSeparator()));
+        String slowestBeans = events.stream()
+                .filter(it -> BEAN_INSTANTIATE_STEP.equals(it.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(topSteps)
+                .map(it -> "  %-50s %6dms".formatted(tag(it.getStartupStep(), "beanName"), it.getDuration().toMillis()))
+                .collect(Collectors.joining(System.lineSeparator()));
+
+        log.info("기동 완료 - {}ms{}단계별:{}{}{}오래 걸린 빈 (하위 빈 포함):{}{}",
+                event.getTimeTaken() == null ? -1 : event.getTimeTaken().toMillis(),
+                System.lineSeparator(), System.lineSeparator(), phases,
+                System.lineSeparator(), System.lineSeparator(), slowestBeans);
+    }
+
+    private static String tag(StartupStep step, String key) {
+        return StreamSupport.stream(step.getTags().spliterator(), false)
+                .filter(tag -> key.equals(tag.getKey()))
+                .map(StartupStep.Tag::getValue)
+                .findFirst()
+                .orElse(step.getName());
+    }
+}
@@ -2,24 +2,58 @@ package com.fastcampus.projectboard.repository;
 
 import com.fastcampus.projectboard.domain.ArticleComment;
 import com.fastcampus.projectboard.domain.QArticleComment;
+import com.fastcampus.projectboard.dto.ArticleCommentExportDto;
+import com.fastcampus.projectboard.repository.querydsl.ArticleCommentRepositoryCustom;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @RepositoryRestResource // spring data rest
 public interface ArticleCommentRepository extends
         JpaRepository<ArticleComment, Long>,
+        ArticleCommentRepositoryCustom,
         QuerydslPredicateExecutor<ArticleComment>,
         QuerydslBinderCustomizer<QArticleComment>
 {
+    // 댓글 작성자와 (EAGER 인) 게시글/게시글 작성자까지 join 으로 한 번에 조회
+    @EntityGraph(attributePaths = {"userAccount", "article", "article.userAccount"})
     List<ArticleComment> findByArticle_Id(Long articleId);
 
+    // 내보내기용 전진 전용 스트림. 게시글 ID 순이라 게시글 스트림과 나란히 읽으며 합칠 수 있다
+    @RestResource(exported = false)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select new com.fastcampus.projectboard.dto.ArticleCommentExportDto(
+                c.id, c.article.id, u.userId, u.nickname, c.content, c.createdAt, c.createdBy, c.modifiedAt, c.modifiedBy
+            )
+            from ArticleComment c join c.userAccount u
+            order by c.article.id, c.id
+            """)
+    Stream<ArticleCommentExportDto> streamAllForExport();
+
+    // 게시글 일괄 삭제용. 댓글 엔티티를 읽지 않고 게시글 ID 조건의 DELETE 한 번으로 지운다. 앞서 변경된 엔티티는 먼저 flush
+    @RestResource(exported = false)
+    @Modifying(flushAutomatically = true)
+    @Query("delete from ArticleComment c where c.article.id in :articleIds")
+    int deleteByArticleIds(@Param("articleIds") Collection<Long> articleIds);
+
     @Override
     default void customize(QuerydslBindings bindings, QArticleComment root) {
         bindings.excludeUnlistedProperties(true); // 모든 필드들에 대한 검색을 막음
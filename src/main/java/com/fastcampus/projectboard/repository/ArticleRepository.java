@@ -7,11 +7,27 @@ import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @RepositoryRestResource // spring data rest
 public interface ArticleRepository extends
@@ -20,11 +36,50 @@ public interface ArticleRepository extends
         QuerydslPredicateExecutor<Article>, // 기본 검색은 여기까지
         QuerydslBinderCustomizer<QArticle> // 입맛에 맞는 검색을 하고 싶다면 여기까지 작성
 {
-    Page<Article> findByTitleContaining(String title, Pageable pageable);
-    Page<Article> findByContentContaining(String content, Pageable pageable);
-    Page<Article> findByUserAccount_UserIdContaining(String userId, Pageable pageable);
-    Page<Article> findByUserAccount_NicknameContaining(String nickname, Pageable pageable);
-    Page<Article> findByHashtag(String hashtag, Pageable pageable);
+    // 페치 계획: 게시글을 읽을 때는 작성자(userAccount)를 항상 함께 쓰므로 join 으로 한 번에 가져온다
+    // (EAGER 라도 JPQL 조회에서는 작성자를 별도 select 로 읽기 때문에, 메서드마다 엔티티 그래프를 명시)
+    @Override
+    @EntityGraph(attributePaths = "userAccount")
+    Optional<Article> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = "userAccount")
+    List<Article> findAllById(Iterable<Long> ids);
+
+    @Override
+    @EntityGraph(attributePaths = "userAccount")
+    Page<Article> findAll(Pageable pageable);
+
+    // 일괄 저장 전 존재 확인용. 엔티티를 읽지 않고 ID 만 조회
+    @RestResource(exported = false)
+    @Query("select a.id from Article a where a.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 작성자 닉네임 변경 시 검색 색인 갱신용
+    @RestResource(exported = false)
+    @Query("select a.id from Article a where a.userAccount.userId = :userId")
+    List<Long> findIdsByUserId(@Param("userId") String userId);
+
+    // 내보내기용 전진 전용 스트림. 한 번에 fetch size 만큼만 가져오고, 읽기 전용이라 스냅샷을 만들지 않는다
+    @RestResource(exported = false)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select a from Article a join fetch a.userAccount order by a.id")
+    Stream<Article> streamAllByOrderById();
+
+    // 게시글 일괄 삭제용. 댓글/해시태그 연결을 먼저 지운 뒤 호출한다. 영속성 컨텍스트에 남은 삭제된 게시글은 비운다
+    @RestResource(exported = false)
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Article a where a.id in :articleIds")
+    int deleteByIds(@Param("articleIds") Collection<Long> articleIds);
+
+    // 리스트 조회는 ArticleRepositoryCustom#findSummaries (필요한 컬럼만 프로젝션). 전체 건수는 ArticleCountService 의 추정치를 사용
+    long countByTitleContaining(String title);
+    long countByContentContaining(String content);
+    long countByUserAccount_UserIdContaining(String userId);
+    long countByUserAccount_NicknameContaining(String nickname);
 
     @Override
     default void customize(QuerydslBindings bindings, QArticle root) {
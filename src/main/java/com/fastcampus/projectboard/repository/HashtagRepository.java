@@ -0,0 +1,64 @@
+package com.fastcampus.projectboard.repository;
+
+import com.fastcampus.projectboard.domain.Hashtag;
+import com.fastcampus.projectboard.repository.querydsl.HashtagRepositoryCustom;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@RepositoryRestResource // spring data rest. 게시글 응답에서 해시태그가 링크로 노출되도록 (조회만)
+public interface HashtagRepository extends
+        JpaRepository<Hashtag, Long>,
+        HashtagRepositoryCustom
+{
+    // 해시태그는 게시글 저장 시 서비스가 만들고 정리한다. Data REST 로 생성/수정/삭제하지 못하도록 쓰기 메서드는 노출하지 않는다
+    @RestResource(exported = false) @Override <S extends Hashtag> S save(S entity);
+    @RestResource(exported = false) @Override void deleteById(Long id);
+    @RestResource(exported = false) @Override void delete(Hashtag entity);
+
+    Optional<Hashtag> findByHashtagName(String hashtagName);
+    List<Hashtag> findByHashtagNameIn(Collection<String> hashtagNames);
+
+    // 다른 트랜잭션이 방금 커밋한 해시태그도 보이도록 잠금 읽기로 조회 (MySQL REPEATABLE READ 의 스냅샷 읽기로는 보이지 않을 수 있다)
+    @RestResource(exported = false)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select h from Hashtag h where h.hashtagName = :hashtagName")
+    Optional<Hashtag> findLockedByHashtagName(@Param("hashtagName") String hashtagName);
+
+    /**
+     * 주어진 해시태그를 모두 가진 게시글 ID 를 최신순(ID 내림차순)으로 조회.
+     * article_hashtag 의 (hashtag_id, article_id) 인덱스만 읽는 커버링 인덱스 쿼리. 정렬 없는 pageable 을 넘겨야 한다.
+     * 네이티브 쿼리라 ID 가 드라이버 타입(H2/MySQL 은 BigInteger)으로 오므로 {@code Number::longValue} 로 바꿔 써야 한다.
+     */
+    @RestResource(exported = false)
+    @Query(
+            value = "select ah.article_id from article_hashtag ah" +
+                    " where ah.hashtag_id in (:hashtagIds)" +
+                    " group by ah.article_id" +
+                    " having count(*) = :hashtagCount" +
+                    " order by ah.article_id desc",
+            nativeQuery = true
+    )
+    Slice<Number> findArticleIdsByHashtagIds(
+            @Param("hashtagIds") Collection<Long> hashtagIds,
+            @Param("hashtagCount") long hashtagCount,
+            Pageable pageable
+    );
+
+    // 게시글 일괄 삭제용. 게시글 엔티티의 해시태그 컬렉션을 읽지 않고 연결 행만 지운다 (해시태그 자체는 남긴다)
+    @RestResource(exported = false)
+    @Modifying
+    @Query(value = "delete from article_hashtag where article_id in (:articleIds)", nativeQuery = true)
+    int deleteArticleLinksByArticleIds(@Param("articleIds") Collection<Long> articleIds);
+}
@@ -2,6 +2,14 @@ package com.fastcampus.projectboard.repository;
 
 import com.fastcampus.projectboard.domain.UserAccount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Set;
 
 public interface UserAccountRepository extends JpaRepository<UserAccount, String> {
+    // 존재 확인용. 엔티티를 읽지 않고 ID 만 조회
+    @Query("select u.userId from UserAccount u where u.userId in :userIds")
+    Set<String> findExistingUserIds(@Param("userIds") Collection<String> userIds);
 }
@@ -0,0 +1,18 @@
+package com.fastcampus.projectboard.repository.querydsl;
+
+import com.fastcampus.projectboard.domain.ArticleComment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ArticleCommentRepositoryCustom {
+    /**
+     * 게시글의 댓글을 (createdAt, id) 키셋 기준 최신순으로 가져온다.
+     *
+     * @param articleId 게시글 ID
+     * @param createdAt 커서 위치의 작성일 (null 이면 처음부터)
+     * @param id 커서 위치의 댓글 ID
+     * @param limit 최대 건수
+     */
+    List<ArticleComment> findByArticleIdAndKeyset(Long articleId, LocalDateTime createdAt, Long id, int limit);
+}
@@ -0,0 +1,34 @@
+package com.fastcampus.projectboard.repository.querydsl;
+
+import com.fastcampus.projectboard.domain.ArticleComment;
+import com.fastcampus.projectboard.domain.QArticleComment;
+import com.querydsl.jpa.JPQLQuery;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class ArticleCommentRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleCommentRepositoryCustom {
+    public ArticleCommentRepositoryCustomImpl() {
+        super(ArticleComment.class);
+    }
+
+    @Override
+    public List<ArticleComment> findByArticleIdAndKeyset(Long articleId, LocalDateTime createdAt, Long id, int limit) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+        JPQLQuery<ArticleComment> query = from(articleComment)
+                .innerJoin(articleComment.userAccount).fetchJoin() // 댓글 작성자까지 한 번에
+                .where(articleComment.article.id.eq(articleId));
+
+        // (articleId, createdAt) 인덱스에서 커서 위치부터 필요한 만큼만 읽는다
+        if (createdAt != null && id != null) {
+            query.where(articleComment.createdAt.lt(createdAt)
+                    .or(articleComment.createdAt.eq(createdAt).and(articleComment.id.lt(id))));
+        }
+
+        return query
+                .orderBy(articleComment.createdAt.desc(), articleComment.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+}
@@ -1,7 +1,51 @@
 package com.fastcampus.projectboard.repository.querydsl;
 
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.dto.ArticleVersionDto;
+import com.querydsl.core.types.Predicate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface ArticleRepositoryCustom {
-    List<String> findAllDistinctHashtags();
+    /**
+     * 리스트 화면용 게시글 요약을 조회한다. 본문 전체는 읽지 않고 필요한 컬럼만 select 한다.
+     *
+     * @param searchType 부분 일치 검색 대상 (null 이면 전체 게시글)
+     * @param searchKeyword 검색어 (비어 있으면 전체 게시글)
+     */
+    Slice<ArticleSummaryDto> findSummaries(SearchType searchType, String searchKeyword, Pageable pageable);
+
+    // ID 목록에 해당하는 게시글 요약. 순서는 보장하지 않는다
+    List<ArticleSummaryDto> findSummariesByIds(Collection<Long> ids);
+
+    /**
+     * (createdAt, id) 키셋 기준으로 게시글 요약을 최신순으로 가져온다.
+     *
+     * @param hashtagNames 정규화된 해시태그 이름 필터. 모두 가진 게시글만 (비어 있으면 전체)
+     * @param createdAt 커서 위치의 작성일 (null 이면 처음부터)
+     * @param id 커서 위치의 게시글 ID
+     * @param backward true 면 커서 이전(더 최신) 게시글을 오래된 순으로 가져온다
+     * @param limit 최대 건수
+     */
+    List<ArticleSummaryDto> findByKeyset(Collection<String> hashtagNames, LocalDateTime createdAt, Long id, boolean backward, int limit);
+
+    // 조건에 맞는 게시글을 ID 순으로 최대 limit 건. Page 와 달리 count 쿼리를 날리지 않는다 (일괄 삭제 청크용)
+    List<Article> findFirstById(Predicate predicate, int limit);
+
+    // ID 목록 중 검색 대상 필드가 모든 단어를 (대소문자 구분 없이) 포함하는 게시글 ID. 검색 색인 후보 확인용
+    List<Long> findIdsContainingAll(Collection<Long> ids, SearchType searchType, Collection<String> words);
+
+    // 작성자(userId)별 게시글 수
+    Map<String, Long> countArticlesByUserId();
+
+    // 게시글과 댓글의 최종 수정 시각, 댓글 수. 상세 화면 조건부 요청 검증용
+    Optional<ArticleVersionDto> findVersion(Long articleId);
 }
@@ -2,26 +2,193 @@ package com.fastcampus.projectboard.repository.querydsl;
 
 import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.QArticle;
+import com.fastcampus.projectboard.domain.QArticleComment;
+import com.fastcampus.projectboard.domain.QUserAccount;
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.dto.ArticleVersionDto;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPQLQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 // Querydsl
 // 이름은 똑같이 하고 뒤에 Impl 붙이기
 public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom {
+    private static final int CONTENT_PREVIEW_LENGTH = 100;
+
     public ArticleRepositoryCustomImpl() {
         super(Article.class);
     }
 
     @Override
-    public List<String> findAllDistinctHashtags() {
+    public Slice<ArticleSummaryDto> findSummaries(SearchType searchType, String searchKeyword, Pageable pageable) {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+        JPQLQuery<ArticleSummaryDto> query = selectSummaries(article, userAccount)
+                .where(containing(searchType, searchKeyword, article, userAccount));
+
+        getQuerydsl().applySorting(pageable.getSort(), query);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.fetch());
+        }
+
+        // count 쿼리 대신 한 건 더 읽어서 다음 창 존재 여부 판단
+        List<ArticleSummaryDto> rows = query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findSummariesByIds(Collection<Long> ids) {
+        QArticle article = QArticle.article;
+
+        return selectSummaries(article, QUserAccount.userAccount)
+                .where(article.id.in(ids))
+                .fetch();
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findByKeyset(Collection<String> hashtagNames, LocalDateTime createdAt, Long id, boolean backward, int limit) {
+        QArticle article = QArticle.article;
+        JPQLQuery<ArticleSummaryDto> query = selectSummaries(article, QUserAccount.userAccount);
+
+        for (String hashtagName : hashtagNames) {
+            query.where(article.hashtags.any().hashtagName.eq(hashtagName));
+        }
+        // OFFSET 없이 createdAt 인덱스에서 커서 위치부터 읽는다. (InnoDB 보조 인덱스에는 PK 가 포함되어 id 까지 인덱스로 비교)
+        if (createdAt != null && id != null) {
+            query.where(backward
+                    ? article.createdAt.gt(createdAt).or(article.createdAt.eq(createdAt).and(article.id.gt(id)))
+                    : article.createdAt.lt(createdAt).or(article.createdAt.eq(createdAt).and(article.id.lt(id)))
+            );
+        }
+
+        return query
+                .orderBy(
+                        backward ? article.createdAt.asc() : article.createdAt.desc(),
+                        backward ? article.id.asc() : article.id.desc()
+                )
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Article> findFirstById(Predicate predicate, int limit) {
         QArticle article = QArticle.article;
 
         return from(article)
-                .distinct()
-                .select(article.hashtag)
-                .where(article.hashtag.isNotNull())
+                .where(predicate)
+                .orderBy(article.id.asc())
+                .limit(limit)
                 .fetch();
     }
+
+    @Override
+    public List<Long> findIdsContainingAll(Collection<Long> ids, SearchType searchType, Collection<String> words) {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+        JPQLQuery<Long> query = from(article)
+                .innerJoin(article.userAccount, userAccount)
+                .select(article.id)
+                .where(article.id.in(ids));
+
+        for (String word : words) {
+            query.where(switch (searchType) {
+                case TITLE -> article.title.containsIgnoreCase(word);
+                case CONTENT -> article.content.containsIgnoreCase(word);
+                case NICKNAME -> userAccount.nickname.containsIgnoreCase(word);
+                default -> throw new IllegalArgumentException("색인되지 않는 검색 타입입니다 - searchType: " + searchType);
+            });
+        }
+
+        return query.fetch();
+    }
+
+    @Override
+    public Map<String, Long> countArticlesByUserId() {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+        NumberExpression<Long> articleCount = article.id.count();
+
+        return from(article)
+                .innerJoin(article.userAccount, userAccount)
+                .select(userAccount.userId, articleCount)
+                .groupBy(userAccount.userId)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(userAccount.userId), tuple -> tuple.get(articleCount)));
+    }
+
+    @Override
+    public Optional<ArticleVersionDto> findVersion(Long articleId) {
+        QArticle article = QArticle.article;
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        // 댓글은 (articleId, modifiedAt) 인덱스만 읽어 집계 (max(modifiedAt) 과 count(id) 모두 인덱스에 있는 컬럼. 댓글 행은 읽지 않는다)
+        return Optional.ofNullable(from(article)
+                .leftJoin(article.articleComments, articleComment)
+                .where(article.id.eq(articleId))
+                .groupBy(article.id, article.modifiedAt)
+                .select(Projections.constructor(
+                        ArticleVersionDto.class,
+                        article.id,
+                        article.modifiedAt,
+                        articleComment.modifiedAt.max(),
+                        articleComment.id.count()
+                ))
+                .fetchOne());
+    }
+
+    // 리스트 화면에 필요한 컬럼만 select. 본문은 DB 에서 앞부분만 잘라 가져온다
+    private JPQLQuery<ArticleSummaryDto> selectSummaries(QArticle article, QUserAccount userAccount) {
+        return from(article)
+                .innerJoin(article.userAccount, userAccount)
+                .select(summaryOf(article, userAccount));
+    }
+
+    private static Expression<ArticleSummaryDto> summaryOf(QArticle article, QUserAccount userAccount) {
+        return Projections.constructor(
+                ArticleSummaryDto.class,
+                article.id,
+                article.title,
+                article.hashtag,
+                article.content.substring(0, CONTENT_PREVIEW_LENGTH),
+                article.createdAt,
+                userAccount.userId,
+                userAccount.nickname,
+                article.viewCount
+        );
+    }
+
+    // 검색어가 없으면 조건 없음 (null 은 where 에서 무시된다)
+    private static Predicate containing(SearchType searchType, String searchKeyword, QArticle article, QUserAccount userAccount) {
+        if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return null;
+        }
+
+        return switch (searchType) {
+            case TITLE -> article.title.contains(searchKeyword);
+            case CONTENT -> article.content.contains(searchKeyword);
+            case ID -> userAccount.userId.contains(searchKeyword);
+            case NICKNAME -> userAccount.nickname.contains(searchKeyword);
+            case HASHTAG -> article.hashtag.contains(searchKeyword);
+        };
+    }
 }
@@ -0,0 +1,11 @@
+package com.fastcampus.projectboard.repository.querydsl;
+
+import java.util.List;
+import java.util.Map;
+
+public interface HashtagRepositoryCustom {
+    List<String> findAllHashtagNames();
+
+    // 해시태그별 게시글 수 (group by)
+    Map<String, Long> countArticlesByHashtagName();
+}
@@ -0,0 +1,42 @@
+package com.fastcampus.projectboard.repository.querydsl;
+
+import com.fastcampus.projectboard.domain.Hashtag;
+import com.fastcampus.projectboard.domain.QArticle;
+import com.fastcampus.projectboard.domain.QHashtag;
+import com.querydsl.core.types.dsl.NumberExpression;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport implements HashtagRepositoryCustom {
+    public HashtagRepositoryCustomImpl() {
+        super(Hashtag.class);
+    }
+
+    @Override
+    public List<String> findAllHashtagNames() {
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return from(hashtag)
+                .select(hashtag.hashtagName)
+                .orderBy(hashtag.hashtagName.asc())
+                .fetch();
+    }
+
+    @Override
+    public Map<String, Long> countArticlesByHashtagName() {
+        QHashtag hashtag = QHashtag.hashtag;
+        QArticle article = QArticle.article;
+        NumberExpression<Long> articleCount = article.id.count();
+
+        return from(hashtag)
+                .join(hashtag.articles, article)
+                .select(hashtag.hashtagName, articleCount)
+                .groupBy(hashtag.hashtagName)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(hashtag.hashtagName), tuple -> tuple.get(articleCount)));
+    }
+}
@@ -0,0 +1,197 @@
+package com.fastcampus.projectboard.search;
+
+import com.fastcampus.projectboard.config.SearchConfig.SearchIndexProperties;
+import com.fastcampus.projectboard.config.SearchConfig.SearchProperties;
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.QArticle;
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.event.ArticleEvent;
+import com.fastcampus.projectboard.event.NicknameChangedEvent;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.search.analysis.Analyzer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 제목/본문/닉네임 검색용 내장 역색인. like '%검색어%' 풀 스캔 대신 사용한다.
+ * n-gram 최대 길이보다 긴 검색 단어는 n-gram 이 모두 있어도 서로 떨어진 위치일 수 있으므로, 후보 ID 만 DB 에서 대조해 실제로 포함하는 것만 돌려준다.
+ * 게시판 전체를 힙에 올리므로 게시글 수가 {@code search.index.max-documents} 를 넘으면 색인을 버리고 like 검색으로 돌린다.
+ * 이벤트 누락으로 어긋난 색인과 교체/삭제로 쌓인 posting 항목은 주기적인 재구성으로 바로잡는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleSearchIndex {
+    private static final int REBUILD_CHUNK_SIZE = 500;
+    private static final int VERIFY_CHUNK_SIZE = 1_000;
+    private static final Set<SearchType> INDEXED_TYPES = EnumSet.of(SearchType.TITLE, SearchType.CONTENT, SearchType.NICKNAME);
+
+    private final ArticleRepository articleRepository;
+    private final Analyzer articleAnalyzer;
+    private final Analyzer articleWordAnalyzer;
+    private final SearchProperties searchProperties;
+    private final SearchIndexProperties searchIndexProperties;
+
+    // 재구성 중에도 검색은 이전 색인으로 처리하고, 다 만든 새 색인으로 한 번에 교체. 비어 있으면 색인을 쓰지 않는다
+    private volatile Map<SearchType, InvertedIndex> indices = Map.of();
+    // 색인 변경(이벤트 반영, 교체)은 이 락 안에서만. 재구성 중 들어온 변경은 모아 뒀다가 새 색인에 다시 반영한다
+    private final Object writeLock = new Object();
+    private List<Consumer<Map<SearchType, InvertedIndex>>> changesDuringRebuild; // writeLock 으로 보호. 재구성 중이 아니면 null
+
+    /**
+     * 색인으로 처리할 수 있는 검색인지 확인한다.
+     * n-gram 최소 길이보다 짧은 단어가 섞인 검색어는 부분 일치를 보장할 수 없으므로, 호출 측에서 기존 like 검색을 사용해야 한다.
+     */
+    public boolean supports(SearchType searchType, String searchKeyword) {
+        if (!indices.containsKey(searchType)) { return false; } // 지원하지 않는 검색 타입이거나 색인을 쓰지 않는 상태
+
+        List<String> terms = articleAnalyzer.analyze(searchKeyword);
+        return !terms.isEmpty() && terms.stream()
+                .allMatch(term -> term.codePointCount(0, term.length()) >= searchProperties.getMinGram());
+    }
+
+    // 검색어에 해당하는 게시글 ID 페이지 (랭킹 순)
+    public Page<Long> search(SearchType searchType, String searchKeyword, Pageable pageable) {
+        if (!INDEXED_TYPES.contains(searchType)) {
+            throw new IllegalArgumentException("색인되지 않는 검색 타입입니다 - searchType: " + searchType);
+        }
+        InvertedIndex index = indices.get(searchType);
+        if (index == null) { return Page.empty(pageable); } // supports 확인 직후 색인이 내려간 경우
+
+        // n-gram 최대 길이 이하의 단어는 그 자체가 n-gram 이므로 posting 만으로 확정된다
+        List<String> unverifiedWords = articleWordAnalyzer.analyze(searchKeyword).stream()
+                .filter(word -> word.codePointCount(0, word.length()) > searchProperties.getMaxGram())
+                .toList();
+        if (unverifiedWords.isEmpty()) {
+            return index.search(articleAnalyzer.analyze(searchKeyword), pageable);
+        }
+
+        return index.search(articleAnalyzer.analyze(searchKeyword), candidates -> verify(searchType, candidates, unverifiedWords), pageable);
+    }
+
+    // 커밋된 변경만 색인에 반영. 트랜잭션 밖에서 발행된 이벤트도 바로 처리
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ArticleEvent event) {
+        applyChange(target -> apply(target, event));
+    }
+
+    // 작성자 닉네임이 바뀌면 그 작성자의 게시글을 새 닉네임으로 다시 색인
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(NicknameChangedEvent event) {
+        List<Long> articleIds = articleRepository.findIdsByUserId(event.userId());
+        applyChange(target -> articleIds.stream()
+                .filter(target.get(SearchType.TITLE)::contains) // 조회 이후 삭제된 게시글은 되살리지 않는다
+                .forEach(articleId -> index(target.get(SearchType.NICKNAME), articleId, event.nickname()))
+        );
+    }
+
+    private void applyChange(Consumer<Map<SearchType, InvertedIndex>> change) {
+        synchronized (writeLock) {
+            if (changesDuringRebuild != null) { changesDuringRebuild.add(change); }
+            if (indices.isEmpty()) { return; }
+
+            change.accept(indices);
+            if (indices.get(SearchType.TITLE).size() > searchIndexProperties.getMaxDocuments()) {
+                indices = Map.of();
+                log.warn("게시글 수가 색인 한도를 넘어 검색 색인을 내립니다. 이후 검색은 like 검색 - maxDocuments: {}", searchIndexProperties.getMaxDocuments());
+            }
+        }
+    }
+
+    /**
+     * 전체 게시글로 새 색인을 만들어 교체한다. 기동 시와 주기적으로 실행.
+     * 만드는 동안 검색은 이전 색인으로 처리되고, 그 사이 커밋된 변경은 교체 직전에 새 색인에 다시 반영한다.
+     * 색인 반영은 같은 게시글의 마지막 상태로 덮어쓰는 멱등 연산이라, 이미 읽어 온 변경을 한 번 더 반영해도 결과가 같다.
+     * 만드는 동안에는 이전 색인과 새 색인이 함께 힙에 있다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${search.index.rebuild-interval:PT1H}",
+            fixedDelayString = "${search.index.rebuild-interval:PT1H}"
+    )
+    public synchronized void rebuild() {
+        long articleCount = articleRepository.count();
+        if (articleCount > searchIndexProperties.getMaxDocuments()) {
+            synchronized (writeLock) { indices = Map.of(); }
+            log.warn("게시글 수가 색인 한도를 넘어 검색 색인을 만들지 않습니다. 검색은 like 검색 - articles: {}, maxDocuments: {}",
+                    articleCount, searchIndexProperties.getMaxDocuments());
+            return;
+        }
+
+        synchronized (writeLock) { changesDuringRebuild = new ArrayList<>(); }
+        try {
+            Map<SearchType, InvertedIndex> rebuilt = newIndices();
+            long lastId = 0L;
+            List<Article> chunk;
+            do {
+                // ID 키셋으로 청크를 읽는다. 청크마다 count 쿼리나 OFFSET 스캔을 하지 않는다
+                chunk = articleRepository.findFirstById(QArticle.article.id.gt(lastId), REBUILD_CHUNK_SIZE);
+                chunk.stream().map(ArticleDto::from).forEach(dto -> index(rebuilt, dto));
+                if (!chunk.isEmpty()) { lastId = chunk.get(chunk.size() - 1).getId(); }
+            } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+            synchronized (writeLock) {
+                changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                indices = rebuilt;
+            }
+            log.info("게시글 검색 색인 구성 완료 - documents: {}, postingBytes: {}",
+                    rebuilt.get(SearchType.TITLE).size(),
+                    rebuilt.values().stream().mapToLong(InvertedIndex::postingBytes).sum());
+        } finally {
+            synchronized (writeLock) { changesDuringRebuild = null; }
+        }
+    }
+
+    private static Map<SearchType, InvertedIndex> newIndices() {
+        Map<SearchType, InvertedIndex> indices = new EnumMap<>(SearchType.class);
+        INDEXED_TYPES.forEach(searchType -> indices.put(searchType, new InvertedIndex()));
+
+        return indices;
+    }
+
+    private void apply(Map<SearchType, InvertedIndex> target, ArticleEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> index(target, event.current());
+            case DELETED -> target.values().forEach(index -> index.remove(event.articleId()));
+        }
+    }
+
+    private void index(Map<SearchType, InvertedIndex> target, ArticleDto dto) {
+        index(target.get(SearchType.TITLE), dto.id(), dto.title());
+        index(target.get(SearchType.CONTENT), dto.id(), dto.content());
+        index(target.get(SearchType.NICKNAME), dto.id(), dto.userAccountDto().nickname());
+    }
+
+    private void index(InvertedIndex index, Long articleId, String text) {
+        index.put(articleId, articleAnalyzer.analyze(text));
+    }
+
+    // 후보 중 모든 단어를 실제로 포함하는 게시글 ID. PK 조건으로 후보 행만 읽는다
+    private Collection<Long> verify(SearchType searchType, Collection<Long> candidates, List<String> words) {
+        List<Long> candidateIds = List.copyOf(candidates);
+        List<Long> verified = new ArrayList<>();
+        for (int from = 0; from < candidateIds.size(); from += VERIFY_CHUNK_SIZE) {
+            List<Long> chunk = candidateIds.subList(from, Math.min(from + VERIFY_CHUNK_SIZE, candidateIds.size()));
+            verified.addAll(articleRepository.findIdsContainingAll(chunk, searchType, words));
+        }
+
+        return verified;
+    }
+}
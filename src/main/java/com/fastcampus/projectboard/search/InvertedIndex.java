@@ -0,0 +1,245 @@
+package com.fastcampus.projectboard.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 단일 필드에 대한 역색인 (term -> 문서 목록과 출현 빈도).
+ * 문서마다 색인할 때 새 번호(ordinal)를 붙이므로 posting 은 항상 번호 순으로 뒤에 붙는다. 번호 간격과 빈도를 가변 길이 정수로 이어 쓴 byte 배열 하나로 보관한다.
+ * 교체/삭제된 문서는 번호만 지우고 posting 항목은 남겨 두며(검색 시 건너뜀), 새 색인으로 다시 만들 때 사라진다.
+ * 문서별 term 목록이나 원문은 보관하지 않는다.
+ */
+public class InvertedIndex {
+    private static final long REMOVED = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final Map<String, Posting> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>(); // 문서 ID -> 현재 번호
+    private long[] documentIds = new long[INITIAL_CAPACITY]; // 번호 -> 문서 ID. 교체/삭제된 번호는 REMOVED
+    private int nextOrdinal;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 문서 색인 (이미 있으면 교체)
+    public void put(Long documentId, Collection<String> terms) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        terms.forEach(term -> termFrequencies.merge(term, 1, Integer::sum));
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(documentId);
+            if (termFrequencies.isEmpty()) { return; }
+
+            int ordinal = nextOrdinal++;
+            if (ordinal == documentIds.length) {
+                documentIds = Arrays.copyOf(documentIds, documentIds.length * 2);
+            }
+            documentIds[ordinal] = documentId;
+            ordinals.put(documentId, ordinal);
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, k -> new Posting()).add(ordinal, frequency)
+            );
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long documentId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            ordinals.clear();
+            documentIds = new long[INITIAL_CAPACITY];
+            nextOrdinal = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(Long documentId) {
+        lock.readLock().lock();
+        try {
+            return ordinals.containsKey(documentId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // posting 이 차지하는 byte 수 (힙 사용량 확인용)
+    public long postingBytes() {
+        lock.readLock().lock();
+        try {
+            return postings.values().stream().mapToLong(posting -> posting.bytes.length).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 검색 term 을 포함하는 문서를 찾아 점수(term 빈도 합) 내림차순, 같은 점수면 최신 문서(ID 내림차순) 순으로 반환한다.
+     * 정렬은 랭킹으로 대체되므로 {@code pageable} 의 sort 는 사용하지 않는다.
+     */
+    public Page<Long> search(Collection<String> terms, Pageable pageable) {
+        return search(terms, null, pageable);
+    }
+
+    /**
+     * {@link #search(Collection, Pageable)} 와 같되, 모든 term 을 포함한 후보 ID 를 {@code verifier} 에 넘겨 돌려받은 ID 만 남긴다.
+     * term 만으로는 확정할 수 없는 후보(n-gram 이 떨어진 위치에 있는 문서)를 걸러낼 때 쓴다. 락 밖에서 한 번 호출한다.
+     * 건수(totalElements)도 걸러낸 뒤의 건수다.
+     */
+    public Page<Long> search(Collection<String> terms, Function<Collection<Long>, Collection<Long>> verifier, Pageable pageable) {
+        Set<String> distinctTerms = new HashSet<>(terms);
+        if (distinctTerms.isEmpty()) { return Page.empty(pageable); }
+
+        List<ScoredDocument> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<PostingCursor> cursors = new ArrayList<>(distinctTerms.size());
+            for (String term : distinctTerms) {
+                Posting posting = postings.get(term);
+                if (posting == null) { return Page.empty(pageable); } // AND 검색: 하나라도 없으면 결과 없음
+                cursors.add(new PostingCursor(posting));
+            }
+            cursors.sort(Comparator.comparingInt(cursor -> cursor.posting.size)); // 가장 짧은 posting 을 기준으로 나머지를 앞으로 감으며 교집합
+
+            PostingCursor lead = cursors.get(0);
+            candidates:
+            while (lead.next()) {
+                int ordinal = lead.ordinal;
+                int score = lead.frequency;
+                for (int i = 1; i < cursors.size(); i++) {
+                    PostingCursor cursor = cursors.get(i);
+                    if (!cursor.advanceTo(ordinal)) { break candidates; } // 더 짧은 쪽이 끝나면 교집합도 끝
+                    if (cursor.ordinal != ordinal) { continue candidates; }
+                    score += cursor.frequency;
+                }
+
+                long documentId = documentIds[ordinal];
+                if (documentId != REMOVED) { hits.add(new ScoredDocument(documentId, score)); }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (verifier != null && !hits.isEmpty()) {
+            Set<Long> verified = new HashSet<>(verifier.apply(hits.stream().map(ScoredDocument::documentId).toList()));
+            hits.removeIf(hit -> !verified.contains(hit.documentId()));
+        }
+
+        hits.sort(Comparator.comparingInt(ScoredDocument::score).reversed()
+                .thenComparing(ScoredDocument::documentId, Comparator.reverseOrder()));
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(hits.stream().map(ScoredDocument::documentId).toList());
+        }
+
+        int fromIndex = (int) Math.min(pageable.getOffset(), hits.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), hits.size());
+        List<Long> content = hits.subList(fromIndex, toIndex).stream()
+                .map(ScoredDocument::documentId)
+                .toList();
+
+        return new PageImpl<>(content, pageable, hits.size());
+    }
+
+    private void removeInternal(Long documentId) {
+        Integer ordinal = ordinals.remove(documentId);
+        if (ordinal != null) { documentIds[ordinal] = REMOVED; }
+    }
+
+    private record ScoredDocument(Long documentId, int score) {}
+
+    /**
+     * 한 term 의 posting. 항목마다 (이전 번호와의 차이 << 1 | 빈도가 1 보다 큰지) 를 쓰고, 빈도가 1 보다 크면 빈도를 이어 쓴다.
+     * 차이가 128 미만이고 빈도가 1 인 대부분의 항목은 1 byte 로 끝난다.
+     */
+    private static final class Posting {
+        private byte[] bytes = new byte[8];
+        private int length;
+        private int lastOrdinal = -1;
+        private int size; // 항목 수 (교체/삭제된 문서 포함)
+
+        private void add(int ordinal, int frequency) {
+            if (length + 10 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length + (bytes.length >> 1), length + 10));
+            }
+            writeVarInt((ordinal - lastOrdinal) << 1 | (frequency > 1 ? 1 : 0));
+            if (frequency > 1) { writeVarInt(frequency); }
+            lastOrdinal = ordinal;
+            size++;
+        }
+
+        private void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[length++] = (byte) value;
+        }
+    }
+
+    // posting 을 앞에서부터 한 항목씩 읽는다
+    private static final class PostingCursor {
+        private final Posting posting;
+        private int position;
+        private int ordinal = -1;
+        private int frequency;
+
+        private PostingCursor(Posting posting) {
+            this.posting = posting;
+        }
+
+        private boolean next() {
+            if (position >= posting.length) { return false; }
+
+            int value = readVarInt();
+            ordinal += value >>> 1;
+            frequency = (value & 1) == 0 ? 1 : readVarInt();
+            return true;
+        }
+
+        // target 이상인 첫 항목으로 이동. 없으면 false
+        private boolean advanceTo(int target) {
+            while (ordinal < target) {
+                if (!next()) { return false; }
+            }
+            return true;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = posting.bytes[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
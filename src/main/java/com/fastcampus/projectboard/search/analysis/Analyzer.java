@@ -0,0 +1,35 @@
+package com.fastcampus.projectboard.search.analysis;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * 검색어/문서 분석 파이프라인: 정규화 -> 토큰화 -> 토큰 필터 체인.
+ * 색인과 검색에 같은 분석기를 사용해야 같은 term 이 만들어진다.
+ */
+public class Analyzer {
+    private final UnaryOperator<String> normalizer;
+    private final Tokenizer tokenizer;
+    private final List<TokenFilter> filters;
+
+    private Analyzer(UnaryOperator<String> normalizer, Tokenizer tokenizer, List<TokenFilter> filters) {
+        this.normalizer = normalizer;
+        this.tokenizer = tokenizer;
+        this.filters = List.copyOf(filters);
+    }
+
+    public static Analyzer of(UnaryOperator<String> normalizer, Tokenizer tokenizer, List<TokenFilter> filters) {
+        return new Analyzer(normalizer, tokenizer, filters);
+    }
+
+    public List<String> analyze(String text) {
+        if (text == null || text.isBlank()) { return List.of(); }
+
+        List<String> tokens = tokenizer.tokenize(normalizer.apply(text));
+        for (TokenFilter filter : filters) {
+            tokens = filter.apply(tokens);
+        }
+
+        return tokens;
+    }
+}
@@ -0,0 +1,42 @@
+package com.fastcampus.projectboard.search.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 단어를 글자 단위 n-gram 으로 펼친다. ("게시글이" -> 게시, 시글, 글이, 게시글, 시글이)
+ * 교착어인 한국어는 조사/어미가 붙어 단어 그대로는 매칭이 안 되므로, 부분 단어 검색을 n-gram 매칭으로 처리한다.
+ * {@code minGram} 보다 짧은 단어는 그대로 둔다.
+ */
+public class NGramFilter implements TokenFilter {
+    private final int minGram;
+    private final int maxGram;
+
+    public NGramFilter(int minGram, int maxGram) {
+        if (minGram < 1 || maxGram < minGram) {
+            throw new IllegalArgumentException("잘못된 n-gram 범위입니다 - minGram: " + minGram + ", maxGram: " + maxGram);
+        }
+        this.minGram = minGram;
+        this.maxGram = maxGram;
+    }
+
+    @Override
+    public List<String> apply(List<String> tokens) {
+        List<String> grams = new ArrayList<>();
+        for (String token : tokens) {
+            int[] codePoints = token.codePoints().toArray(); // 보조 평면 문자(이모지 등)도 한 글자로 취급
+            if (codePoints.length < minGram) {
+                grams.add(token);
+                continue;
+            }
+
+            for (int n = minGram; n <= Math.min(maxGram, codePoints.length); n++) {
+                for (int start = 0; start + n <= codePoints.length; start++) {
+                    grams.add(new String(codePoints, start, n));
+                }
+            }
+        }
+
+        return grams;
+    }
+}
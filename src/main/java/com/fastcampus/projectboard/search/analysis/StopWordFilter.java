@@ -0,0 +1,20 @@
+package com.fastcampus.projectboard.search.analysis;
+
+import java.util.List;
+import java.util.Set;
+
+// 불용어 제거. n-gram 으로 쪼개기 전, 단어 단위로 적용해야 한다.
+public class StopWordFilter implements TokenFilter {
+    private final Set<String> stopWords;
+
+    public StopWordFilter(Set<String> stopWords) {
+        this.stopWords = Set.copyOf(stopWords);
+    }
+
+    @Override
+    public List<String> apply(List<String> tokens) {
+        return tokens.stream()
+                .filter(token -> !stopWords.contains(token))
+                .toList();
+    }
+}
@@ -0,0 +1,13 @@
+package com.fastcampus.projectboard.search.analysis;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+
+// 전각/반각, 조합형 한글 등을 NFKC 로 통일하고 소문자로 변환
+public class TextNormalizer implements UnaryOperator<String> {
+    @Override
+    public String apply(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fastcampus.projectboard.search.analysis;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface TokenFilter {
+    List<String> apply(List<String> tokens);
+}
@@ -0,0 +1,17 @@
+package com.fastcampus.projectboard.search.analysis;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+// 문자/숫자가 아닌 문자를 기준으로 단어를 자른다. 한글 어절은 그대로 하나의 단어가 된다.
+public class WordTokenizer implements Tokenizer {
+    private static final Pattern DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    @Override
+    public List<String> tokenize(String text) {
+        return Arrays.stream(DELIMITER.split(text))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+}
@@ -1,36 +1,119 @@
 package com.fastcampus.projectboard.service;
 
+import com.fastcampus.projectboard.domain.ArticleComment;
 import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.CursorSlice;
+import com.fastcampus.projectboard.dto.KeysetCursor;
 import com.fastcampus.projectboard.repository.ArticleCommentRepository;
 import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityNotFoundException;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+@Slf4j
 @RequiredArgsConstructor
 @Transactional
 @Service
 public class ArticleCommentService {
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
+    private final UserAccountRepository userAccountRepository;
 
     // 해당 게시글에 달린 댓글 리스트 조회
     @Transactional(readOnly = true)
     public List<ArticleCommentDto> searchArticleComments(Long articleId) {
-        return List.of();
+        return articleCommentRepository.findByArticle_Id(articleId)
+                .stream()
+                .map(ArticleCommentDto::from)
+                .toList();
+    }
+
+    /**
+     * 해당 게시글에 달린 댓글을 최신순으로 한 창씩 조회. 댓글이 많아도 창 크기만큼만 읽는다.
+     *
+     * @param after 이 커서 다음(더 오래된) 댓글을 조회. 비어 있으면 첫 창
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<ArticleCommentDto> searchArticleComments(Long articleId, String after, int size) {
+        KeysetCursor cursor = after == null || after.isBlank() ? null : KeysetCursor.decode(after);
+
+        // 한 건 더 읽어서 다음 창 존재 여부 판단
+        List<ArticleComment> rows = articleCommentRepository.findByArticleIdAndKeyset(
+                articleId,
+                cursor == null ? null : cursor.createdAt(),
+                cursor == null ? null : cursor.id(),
+                size + 1
+        );
+        boolean hasNext = rows.size() > size;
+        List<ArticleComment> window = rows.subList(0, Math.min(size, rows.size()));
+        if (window.isEmpty()) {
+            return CursorSlice.of(List.of(), null, null);
+        }
+
+        ArticleComment last = window.get(window.size() - 1);
+
+        return CursorSlice.of(
+                window.stream().map(ArticleCommentDto::from).toList(),
+                hasNext ? KeysetCursor.of(last.getCreatedAt(), last.getId()).encode() : null,
+                null // 댓글은 "더 보기" 방향으로만 넘긴다
+        );
     }
 
     // 댓글 저장
     public void saveArticleComment(ArticleCommentDto dto) {
+        try {
+            articleCommentRepository.save(dto.toEntity(articleRepository.getReferenceById(dto.articleId())));
+        } catch (EntityNotFoundException e) {
+            log.warn("댓글 저장 실패. 댓글의 게시글을 찾을 수 없습니다 - dto: {}", dto);
+        }
+    }
+
+    /**
+     * 댓글 일괄 저장. ID 를 미리 할당받으므로 insert 가 JDBC 배치로 나간다.
+     * 게시글 존재 여부는 한 번에 확인하고, 없는 게시글의 댓글은 건너뛴다.
+     *
+     * @return 저장한 댓글 수
+     */
+    public int saveArticleComments(List<ArticleCommentDto> dtos) {
+        if (dtos.isEmpty()) { return 0; }
+
+        Set<Long> existingArticleIds = articleRepository.findExistingIds(dtos.stream().map(ArticleCommentDto::articleId).collect(Collectors.toSet()));
+        List<ArticleComment> articleComments = dtos.stream()
+                .filter(dto -> {
+                    if (existingArticleIds.contains(dto.articleId())) { return true; }
+
+                    log.warn("댓글 저장 실패. 댓글의 게시글을 찾을 수 없습니다 - dto: {}", dto);
+                    return false;
+                })
+                .map(dto -> ArticleComment.of(
+                        articleRepository.getReferenceById(dto.articleId()),
+                        userAccountRepository.getReferenceById(dto.userAccountDto().userId()),
+                        dto.content()
+                ))
+                .toList();
+
+        return articleCommentRepository.saveAll(articleComments).size();
     }
 
     // 댓글 업데이트
     public void updateArticleComment(ArticleCommentDto dto) {
+        try {
+            ArticleComment articleComment = articleCommentRepository.getReferenceById(dto.id());
+            if (dto.content() != null) { articleComment.setContent(dto.content()); }
+        } catch (EntityNotFoundException e) {
+            log.warn("댓글 업데이트 실패. 댓글을 찾을 수 없습니다 - dto: {}", dto);
+        }
     }
 
     // 댓글 삭제
     public void deleteArticleComment(Long articleCommentId) {
+        articleCommentRepository.deleteById(articleCommentId);
     }
 }
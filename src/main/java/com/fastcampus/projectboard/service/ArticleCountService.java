@@ -0,0 +1,188 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.event.ArticleEvent;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 게시글 건수 카운터.
+ * 전체/작성자별 건수는 커밋된 게시글 생성/삭제 이벤트로 메모리에서 유지하고(해시태그별 건수는 해시태그 카탈로그 사용), 키워드 검색 건수는 일정 시간 캐시한 값을 추정치로 쓴다.
+ * 리스트/상세 페이지마다 count 쿼리를 날리지 않기 위함. 이벤트 누락 등으로 생길 수 있는 오차는 주기적인 DB 대조로 바로잡는다.
+ * 전체/작성자별 건수 변경(이벤트 반영, DB 대조)은 한 락 안에서만 한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleCountService {
+    private static final int KEYWORD_CACHE_SIZE = 1_000;
+    private static final Duration KEYWORD_CACHE_TTL = Duration.ofMinutes(1);
+
+    private final ArticleRepository articleRepository;
+    private final HashtagCatalogService hashtagCatalogService;
+    private final Clock clock = Clock.systemUTC();
+
+    private final AtomicLong totalCount = new AtomicLong();
+    private final Map<String, AtomicLong> authorCounts = new ConcurrentHashMap<>();
+
+    private final Object writeLock = new Object();
+    private ReconcileDeltas deltasDuringReconcile; // writeLock 으로 보호. DB 대조 중이 아니면 null
+    private final Map<KeywordKey, CachedCount> keywordCounts = new LinkedHashMap<>(16, 0.75f, true) { // LRU
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<KeywordKey, CachedCount> eldest) {
+            return size() > KEYWORD_CACHE_SIZE;
+        }
+    };
+
+    // 전체 게시글 수
+    public long countArticles() {
+        return totalCount.get();
+    }
+
+    // 작성자(userId)의 게시글 수
+    public long countArticlesByAuthor(String userId) {
+        AtomicLong count = authorCounts.get(userId);
+        return count == null ? 0L : Math.max(count.get(), 0L);
+    }
+
+    /**
+     * 해시태그(정규화된 이름)를 모두 가진 게시글 수.
+     * 태그가 하나면 정확한 값이고, 여러 개면 교집합 크기의 상한(가장 적은 태그의 게시글 수)을 추정치로 쓴다.
+     */
+    public long countArticlesByHashtags(Set<String> hashtagNames) {
+        return hashtagNames.stream()
+                .mapToLong(hashtagCatalogService::countArticles)
+                .min()
+                .orElse(0L);
+    }
+
+    /**
+     * 키워드 검색 결과 수 추정치. 캐시에 없거나 만료되었을 때만 {@code exactCount} 로 실제 count 쿼리를 실행한다.
+     */
+    public long estimateArticlesByKeyword(SearchType searchType, String searchKeyword, LongSupplier exactCount) {
+        KeywordKey key = new KeywordKey(searchType, searchKeyword);
+        Instant now = clock.instant();
+
+        synchronized (keywordCounts) {
+            CachedCount cached = keywordCounts.get(key);
+            if (cached != null && cached.expiresAt().isAfter(now)) {
+                return cached.count();
+            }
+        }
+
+        long count = exactCount.getAsLong();
+        synchronized (keywordCounts) {
+            keywordCounts.put(key, new CachedCount(count, now.plus(KEYWORD_CACHE_TTL)));
+        }
+
+        return count;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ArticleEvent event) {
+        synchronized (writeLock) {
+            switch (event.type()) {
+                case CREATED -> add(event.current(), 1);
+                case DELETED -> add(event.previous(), -1);
+                case UPDATED -> {} // 작성자는 바뀌지 않는다
+            }
+        }
+    }
+
+    // 애플리케이션 기동 시 실제 건수로 초기화
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        reconcile();
+
+        synchronized (keywordCounts) {
+            keywordCounts.clear();
+        }
+
+        log.info("게시글 건수 초기화 완료 - total: {}, authors: {}", totalCount.get(), authorCounts.size());
+    }
+
+    /**
+     * DB 의 실제 건수와 대조해서 오차를 바로잡는다.
+     * DB 조회 중에는 이벤트 반영을 막지 않고, 그동안 들어온 증감을 모아 뒀다가 DB 값에 더해 덮어쓴다.
+     * 조회 전에 커밋됐지만 리스너가 조회 중에 실행된 변경은 두 번 세어질 수 있으나, 그 차이는 다음 대조에서 바로잡힌다.
+     */
+    @Scheduled(
+            initialDelayString = "${board.article-count.reconcile-interval:PT10M}",
+            fixedDelayString = "${board.article-count.reconcile-interval:PT10M}"
+    )
+    public void reconcile() {
+        synchronized (writeLock) { deltasDuringReconcile = new ReconcileDeltas(); }
+        long actualTotal;
+        Map<String, Long> actualByAuthor;
+        try {
+            actualTotal = articleRepository.count();
+            actualByAuthor = articleRepository.countArticlesByUserId();
+        } catch (RuntimeException e) {
+            synchronized (writeLock) { deltasDuringReconcile = null; }
+            throw e;
+        }
+
+        int corrected = 0;
+        synchronized (writeLock) {
+            long expectedTotal = actualTotal + deltasDuringReconcile.total;
+            Map<String, Long> expectedByAuthor = new HashMap<>(actualByAuthor);
+            deltasDuringReconcile.byAuthor.forEach((userId, delta) -> expectedByAuthor.merge(userId, delta, Long::sum));
+            deltasDuringReconcile = null;
+
+            if (totalCount.getAndSet(expectedTotal) != expectedTotal) { corrected++; }
+            for (Map.Entry<String, Long> entry : expectedByAuthor.entrySet()) {
+                long previous = authorCounts.computeIfAbsent(entry.getKey(), k -> new AtomicLong()).getAndSet(entry.getValue());
+                if (previous != entry.getValue()) { corrected++; }
+            }
+            for (String userId : authorCounts.keySet()) {
+                if (expectedByAuthor.containsKey(userId)) { continue; }
+
+                AtomicLong removed = authorCounts.remove(userId);
+                if (removed != null && removed.get() != 0) { corrected++; }
+            }
+        }
+
+        if (corrected > 0) {
+            log.debug("게시글 건수 보정 - corrected: {}", corrected);
+        }
+    }
+
+    // writeLock 안에서 호출
+    private void add(ArticleDto dto, long delta) {
+        totalCount.addAndGet(delta);
+        String userId = dto == null || dto.userAccountDto() == null ? null : dto.userAccountDto().userId();
+        if (userId != null) { authorCounts.computeIfAbsent(userId, k -> new AtomicLong()).addAndGet(delta); }
+
+        if (deltasDuringReconcile != null) {
+            deltasDuringReconcile.total += delta;
+            if (userId != null) { deltasDuringReconcile.byAuthor.merge(userId, delta, Long::sum); }
+        }
+    }
+
+    private static final class ReconcileDeltas {
+        private long total;
+        private final Map<String, Long> byAuthor = new HashMap<>();
+    }
+
+    private record KeywordKey(SearchType searchType, String searchKeyword) {}
+
+    private record CachedCount(long count, Instant expiresAt) {}
+}
@@ -0,0 +1,96 @@
+package com.fastcampus.projectboard.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.dto.ArticleCommentExportDto;
+import com.fastcampus.projectboard.repository.ArticleCommentRepository;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 게시판 전체 내보내기 (NDJSON, 한 줄에 게시글 하나 + 그 댓글들).
+ * 게시글 스트림(ID 순)과 댓글 스트림(게시글 ID 순)을 나란히 읽으며 합치므로, 페이지 조회(OFFSET)나 게시글별 댓글 조회 없이 쿼리 두 개로 끝난다.
+ * 두 스트림 모두 fetch size 만큼씩만 가져오고, 읽은 게시글은 주기적으로 영속성 컨텍스트에서 비워서 게시판 크기와 무관하게 메모리 사용량이 일정하다.
+ * 출력의 userId/title/content/hashtag 필드는 대량 가져오기(JSONL) 입력으로 그대로 쓸 수 있다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleExportService {
+    private static final int CLEAR_INTERVAL = 100;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 모든 게시글과 댓글을 {@code out} 에 쓴다. 스트림을 닫지는 않는다.
+     *
+     * @return 내보낸 게시글 수
+     */
+    @Transactional(readOnly = true) // 스트림은 트랜잭션 안에서만 읽을 수 있다
+    public long exportArticles(OutputStream out) throws IOException {
+        long exported = 0;
+
+        try (
+                Stream<Article> articles = articleRepository.streamAllByOrderById();
+                Stream<ArticleCommentExportDto> articleComments = articleCommentRepository.streamAllForExport();
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+        ) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null); // 줄 구분은 직접 쓴다 (기본값은 공백)
+            Iterator<ArticleCommentExportDto> commentIterator = articleComments.iterator();
+            ArticleCommentExportDto pendingComment = commentIterator.hasNext() ? commentIterator.next() : null;
+
+            for (Iterator<Article> articleIterator = articles.iterator(); articleIterator.hasNext(); ) {
+                Article article = articleIterator.next();
+
+                generator.writeStartObject();
+                generator.writeNumberField("id", article.getId());
+                generator.writeStringField("userId", article.getUserAccount().getUserId());
+                generator.writeStringField("nickname", article.getUserAccount().getNickname());
+                generator.writeStringField("title", article.getTitle());
+                generator.writeStringField("content", article.getContent());
+                generator.writeStringField("hashtag", article.getHashtag());
+                generator.writeNumberField("viewCount", article.getViewCount());
+                generator.writeObjectField("createdAt", article.getCreatedAt());
+                generator.writeStringField("createdBy", article.getCreatedBy());
+                generator.writeObjectField("modifiedAt", article.getModifiedAt());
+                generator.writeStringField("modifiedBy", article.getModifiedBy());
+
+                // 댓글 스트림에서 이 게시글의 댓글만 꺼내 쓴다 (앞선 ID 의 댓글은 게시글이 없는 것이므로 건너뜀)
+                generator.writeArrayFieldStart("comments");
+                while (pendingComment != null && pendingComment.articleId() <= article.getId()) {
+                    if (pendingComment.articleId().equals(article.getId())) {
+                        generator.writeObject(pendingComment);
+                    }
+                    pendingComment = commentIterator.hasNext() ? commentIterator.next() : null;
+                }
+                generator.writeEndArray();
+
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+
+                if (++exported % CLEAR_INTERVAL == 0) {
+                    generator.flush();
+                    entityManager.clear(); // 이미 쓴 게시글/작성자 엔티티를 내려놓는다
+                }
+            }
+        }
+
+        log.info("게시글 내보내기 완료 - articles: {}", exported);
+
+        return exported;
+    }
+}
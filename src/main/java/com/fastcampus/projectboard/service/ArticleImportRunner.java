@@ -0,0 +1,54 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.ImportConfig.ImportProperties;
+import com.fastcampus.projectboard.domain.constant.ImportFormat;
+import com.fastcampus.projectboard.dto.response.ImportReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Objects;
+
+/**
+ * 대량 가져오기 CLI. board.import.file 을 주고 기동하면 파일을 가져오고, 웹 서버 없이 띄운 경우에는 결과에 따른 종료 코드로 끝낸다.
+ * 예) java -jar board.jar --spring.main.web-application-type=none --board.import.target=articles --board.import.file=articles.jsonl
+ * 해시태그 마이그레이션 뒤에 실행되고, 카운터/색인은 이후 ApplicationReadyEvent 에서 가져온 데이터까지 포함해 초기화된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Order // 다른 기동 작업(해시태그 마이그레이션)이 끝난 뒤
+@ConditionalOnProperty("board.import.file")
+@Component
+public class ArticleImportRunner implements ApplicationRunner {
+    private final ArticleImportService articleImportService;
+    private final ImportProperties importProperties;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        ImportReport report;
+        try (Reader reader = Files.newBufferedReader(importProperties.getFile(), StandardCharsets.UTF_8)) {
+            ImportFormat format = Objects.requireNonNullElseGet(importProperties.getFormat(), () -> ImportFormat.fromFileName(importProperties.getFile().toString()));
+            report = switch (Objects.requireNonNull(importProperties.getTarget(), "board.import.target 이 필요합니다 (articles, article-comments)")) {
+                case ARTICLES -> articleImportService.importArticles(reader, format);
+                case ARTICLE_COMMENTS -> articleImportService.importArticleComments(reader, format);
+            };
+        }
+        report.errors().forEach(error -> log.warn("가져오기 실패 - line: {}, {}", error.line(), error.message()));
+
+        if (!(applicationContext instanceof WebServerApplicationContext)) {
+            System.exit(SpringApplication.exit(applicationContext, () -> report.failed() == 0 ? 0 : 1));
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.fastcampus.projectboard.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fastcampus.projectboard.config.ImportConfig.ImportProperties;
+import com.fastcampus.projectboard.domain.constant.ImportFormat;
+import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.request.ArticleCommentImportRow;
+import com.fastcampus.projectboard.dto.request.ArticleImportRow;
+import com.fastcampus.projectboard.dto.response.ImportReport;
+import com.fastcampus.projectboard.dto.response.ImportReport.RowError;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 게시글/댓글 대량 가져오기.
+ * 입력(JSONL/CSV)을 한 행씩 읽어 청크 크기만큼만 메모리에 두고, 청크마다 별도 트랜잭션에서 JDBC 배치로 저장한다. 입력 크기와 무관하게 메모리 사용량이 일정하다.
+ * 잘못된 행은 건너뛰고 행 번호와 함께 보고하며, 청크 저장이 실패하면 그 청크만 롤백되고 다음 청크로 넘어간다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleImportService {
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    private final ArticleService articleService;
+    private final ArticleCommentService articleCommentService;
+    private final ArticleRepository articleRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final ObjectMapper objectMapper;
+    private final ImportProperties importProperties;
+
+    // 게시글 가져오기. 호출한 쪽에서 reader 를 닫는다
+    public ImportReport importArticles(Reader reader, ImportFormat format) {
+        return importRows(reader, format, ArticleImportRow.class, "게시글", this::writeArticles);
+    }
+
+    // 댓글 가져오기. 호출한 쪽에서 reader 를 닫는다
+    public ImportReport importArticleComments(Reader reader, ImportFormat format) {
+        return importRows(reader, format, ArticleCommentImportRow.class, "댓글", this::writeArticleComments);
+    }
+
+    private <T> ImportReport importRows(Reader reader, ImportFormat format, Class<T> rowType, String target, ChunkWriter<T> writer) {
+        long startedAt = System.currentTimeMillis();
+        Progress progress = new Progress(importProperties.getMaxReportedErrors());
+        // 작성자 존재 여부는 가져오기 한 번 동안만 기억한다. 크기 제한이 있어 작성자가 아무리 많아도 메모리가 일정하다
+        Cache<String, Boolean> knownUsers = Caffeine.newBuilder().maximumSize(importProperties.getUserCacheSize()).build();
+        List<ImportLine<T>> chunk = new ArrayList<>(importProperties.getChunkSize());
+
+        try {
+            readRows(reader, format, rowType, progress, line -> {
+                chunk.add(line);
+                if (chunk.size() >= importProperties.getChunkSize()) {
+                    writeChunk(chunk, writer, knownUsers, progress, target);
+                }
+            });
+        }
+        catch (IOException | RuntimeException e) { // 입력 자체를 더 읽을 수 없으면 읽은 데까지만 저장하고 중단
+            log.warn("{} 가져오기 입력 오류로 중단 - {}", target, e.getMessage());
+            progress.fail(progress.lastLine() + 1, "입력을 더 읽을 수 없어 중단했습니다 - " + e.getMessage());
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, writer, knownUsers, progress, target);
+        }
+
+        ImportReport report = progress.toReport(System.currentTimeMillis() - startedAt);
+        log.info("{} 가져오기 완료 - imported: {}, failed: {}, elapsed: {}ms", target, report.imported(), report.failed(), report.elapsedMillis());
+
+        return report;
+    }
+
+    private <T> void writeChunk(List<ImportLine<T>> chunk, ChunkWriter<T> writer, Cache<String, Boolean> knownUsers, Progress progress, String target) {
+        try {
+            List<RowError> rejected = writer.write(chunk, knownUsers);
+            rejected.forEach(error -> progress.fail(error.line(), error.message()));
+            progress.imported(chunk.size() - rejected.size());
+        }
+        catch (RuntimeException e) { // 청크 트랜잭션이 롤백되었으므로 청크 전체를 실패로 기록
+            log.warn("{} 가져오기 청크 저장 실패 - lines: {}~{}", target, chunk.get(0).line(), chunk.get(chunk.size() - 1).line(), e);
+            chunk.forEach(line -> progress.fail(line.line(), "청크 저장 실패 - " + e.getMessage()));
+        }
+        finally {
+            chunk.clear();
+        }
+
+        log.info("{} 가져오기 진행 - line: {}, imported: {}, failed: {}", target, progress.lastLine(), progress.imported, progress.failed);
+    }
+
+    private List<RowError> writeArticles(List<ImportLine<ArticleImportRow>> chunk, Cache<String, Boolean> knownUsers) {
+        Map<String, Boolean> users = resolveUsers(chunk.stream().map(line -> line.row().userId()), knownUsers);
+        List<RowError> rejected = new ArrayList<>();
+        List<ArticleDto> dtos = new ArrayList<>(chunk.size());
+
+        for (ImportLine<ArticleImportRow> line : chunk) {
+            ArticleImportRow row = line.row();
+            String error = validate(row);
+            if (error == null && !users.getOrDefault(row.userId(), false)) { error = "유저를 찾을 수 없습니다 - userId: " + row.userId(); }
+
+            if (error == null) { dtos.add(row.toDto()); }
+            else { rejected.add(RowError.of(line.line(), error)); }
+        }
+        articleService.saveArticles(dtos);
+
+        return rejected;
+    }
+
+    private List<RowError> writeArticleComments(List<ImportLine<ArticleCommentImportRow>> chunk, Cache<String, Boolean> knownUsers) {
+        Map<String, Boolean> users = resolveUsers(chunk.stream().map(line -> line.row().userId()), knownUsers);
+        Set<Long> articleIds = articleRepository.findExistingIds(chunk.stream()
+                .map(line -> line.row().articleId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        List<RowError> rejected = new ArrayList<>();
+        List<ArticleCommentDto> dtos = new ArrayList<>(chunk.size());
+
+        for (ImportLine<ArticleCommentImportRow> line : chunk) {
+            ArticleCommentImportRow row = line.row();
+            String error = validate(row);
+            if (error == null && !users.getOrDefault(row.userId(), false)) { error = "유저를 찾을 수 없습니다 - userId: " + row.userId(); }
+            if (error == null && !articleIds.contains(row.articleId())) { error = "게시글을 찾을 수 없습니다 - articleId: " + row.articleId(); }
+
+            if (error == null) { dtos.add(row.toDto()); }
+            else { rejected.add(RowError.of(line.line(), error)); }
+        }
+        articleCommentService.saveArticleComments(dtos);
+
+        return rejected;
+    }
+
+    // 청크의 작성자 중 처음 보는 것만 한 번의 쿼리로 확인
+    private Map<String, Boolean> resolveUsers(Stream<String> userIds, Cache<String, Boolean> knownUsers) {
+        return knownUsers.getAll(
+                userIds.filter(Objects::nonNull).collect(Collectors.toSet()),
+                missing -> {
+                    Set<String> existing = userAccountRepository.findExistingUserIds(Set.copyOf(missing));
+                    return missing.stream().collect(Collectors.toMap(Function.identity(), existing::contains));
+                }
+        );
+    }
+
+    // 엔티티 컬럼 제약과 맞춘 검증. 문제가 없으면 null
+    private static String validate(ArticleImportRow row) {
+        if (isBlank(row.userId())) { return "userId 가 없습니다"; }
+        if (isBlank(row.title())) { return "title 이 없습니다"; }
+        if (isBlank(row.content())) { return "content 가 없습니다"; }
+        if (row.title().length() > 255) { return "title 이 255자를 넘습니다"; }
+        if (row.content().length() > 10000) { return "content 가 10000자를 넘습니다"; }
+
+        return null;
+    }
+
+    private static String validate(ArticleCommentImportRow row) {
+        if (row.articleId() == null) { return "articleId 가 없습니다"; }
+        if (isBlank(row.userId())) { return "userId 가 없습니다"; }
+        if (isBlank(row.content())) { return "content 가 없습니다"; }
+        if (row.content().length() > 500) { return "content 가 500자를 넘습니다"; }
+
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private <T> void readRows(Reader reader, ImportFormat format, Class<T> rowType, Progress progress, Consumer<ImportLine<T>> onRow) throws IOException {
+        switch (format) {
+            case JSONL -> readJsonLines(reader, rowType, progress, onRow);
+            case CSV -> readCsv(reader, rowType, progress, onRow);
+        }
+    }
+
+    // 줄 단위로 읽으므로 한 줄이 깨져도 다음 줄부터 계속 읽는다
+    private <T> void readJsonLines(Reader reader, Class<T> rowType, Progress progress, Consumer<ImportLine<T>> onRow) throws IOException {
+        BufferedReader lines = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+        long lineNumber = 0;
+
+        for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+            progress.read(++lineNumber);
+            if (line.isBlank()) { continue; }
+
+            try {
+                onRow.accept(new ImportLine<>(lineNumber, objectMapper.readValue(line, rowType)));
+            }
+            catch (JsonProcessingException e) {
+                progress.fail(lineNumber, "JSON 형식 오류 - " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    // 헤더의 컬럼 이름으로 매핑. 따옴표로 감싼 값 안의 줄바꿈도 한 값으로 읽는다
+    // 그래서 레코드 수와 줄 수가 다를 수 있으므로, 줄 번호는 파서가 센 레코드 시작 줄을 쓴다
+    private <T> void readCsv(Reader reader, Class<T> rowType, Progress progress, Consumer<ImportLine<T>> onRow) throws IOException {
+        MappingIterator<Map<String, String>> records = CSV_MAPPER
+                .readerForMapOf(String.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(reader);
+
+        while (records.hasNextValue()) {
+            long lineNumber = records.getCurrentLocation().getLineNr(); // 다음 레코드를 읽기 전이라 레코드가 시작하는 줄
+            Map<String, String> values = records.nextValue();
+            progress.read(lineNumber);
+
+            try {
+                onRow.accept(new ImportLine<>(lineNumber, objectMapper.convertValue(values, rowType)));
+            }
+            catch (IllegalArgumentException e) {
+                progress.fail(lineNumber, "CSV 값 오류 - " + e.getMessage());
+            }
+        }
+    }
+
+    private record ImportLine<T>(long line, T row) {}
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        // 청크를 한 트랜잭션으로 저장하고, 저장하지 않은 행의 오류를 반환
+        List<RowError> write(List<ImportLine<T>> chunk, Cache<String, Boolean> knownUsers);
+    }
+
+    private static class Progress {
+        private final int maxReportedErrors;
+        private final List<RowError> errors = new ArrayList<>();
+        private long lastLine;
+        private long imported;
+        private long failed;
+
+        private Progress(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void read(long line) {
+            lastLine = line;
+        }
+
+        private long lastLine() {
+            return lastLine;
+        }
+
+        private void imported(long count) {
+            imported += count;
+        }
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) { errors.add(RowError.of(line, message)); }
+        }
+
+        private ImportReport toReport(long elapsedMillis) {
+            return ImportReport.of(imported, failed, List.copyOf(errors), elapsedMillis);
+        }
+    }
+}
@@ -1,67 +1,170 @@
 package com.fastcampus.projectboard.service;
 
+import com.fastcampus.projectboard.config.CacheConfig;
+import com.fastcampus.projectboard.datasource.PrimaryReads;
 import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.Hashtag;
 import com.fastcampus.projectboard.domain.UserAccount;
 import com.fastcampus.projectboard.domain.constant.SearchType;
 import com.fastcampus.projectboard.dto.ArticleDto;
-import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.dto.CursorSlice;
+import com.fastcampus.projectboard.dto.KeysetCursor;
+import com.fastcampus.projectboard.event.ArticleEvent;
+import com.fastcampus.projectboard.repository.ArticleCommentRepository;
 import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.repository.HashtagRepository;
 import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.search.ArticleSearchIndex;
+import com.querydsl.core.types.Predicate;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Transactional
 @Service
 public class ArticleService {
+    public static final String SEARCH_TIMER = "board.article.search";
+    public static final String SEARCH_RESULTS_SUMMARY = "board.article.search.results";
+    private static final int DELETE_CHUNK_SIZE = 500;
+
     private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
+    private final HashtagRepository hashtagRepository;
+    private final HashtagService hashtagService;
+    private final HashtagCatalogService hashtagCatalogService;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleCountService articleCountService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
 
-    // 게시글 리스트 조회
+    // 게시글 리스트 조회. 리스트 화면에 필요한 컬럼만 담은 요약 프로젝션을 반환
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
-        // 검색어가 없을 경우
+    public Page<ArticleSummaryDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+        // 검색어가 없을 경우 - 전체 건수는 유지 중인 카운터 사용
         if (searchKeyword == null || searchKeyword.isBlank()) {
-            return articleRepository.findAll(pageable) // Entity 로 리턴
-                    .map(ArticleDto::from); // Entity -> Dto
+            return timedSearch(null, "all", Page::getNumberOfElements,
+                    () -> toPage(articleRepository.findSummaries(null, null, pageable), articleCountService::countArticles));
         }
 
-        // 검색어가 있을 경우
-        return switch (searchType) {
-            case TITLE -> articleRepository.findByTitleContaining(searchKeyword, pageable)
-                    .map(ArticleDto::from);
-            case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable)
-                    .map(ArticleDto::from);
-            case ID -> articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable)
-                    .map(ArticleDto::from);
-            case NICKNAME -> articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable)
-                    .map(ArticleDto::from);
-            case HASHTAG -> articleRepository.findByHashtag("#" + searchKeyword, pageable)
-                    .map(ArticleDto::from);
-        };
-    }
-
-    // 게시글 조회
-    @Transactional(readOnly = true)
-    public ArticleWithCommentsDto getArticleWithComments(Long articleId) {
-        return articleRepository.findById(articleId)
-                .map(ArticleWithCommentsDto::from)
-                .orElseThrow(() ->
-                        new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId)
-                ); // Optional 까기
+        // 검색어가 있을 경우 - 색인으로 처리할 수 있으면 like 검색 대신 역색인 사용
+        if (articleSearchIndex.supports(searchType, searchKeyword)) {
+            return timedSearch(searchType, "index", Page::getNumberOfElements, () -> searchArticlesViaIndex(searchType, searchKeyword, pageable));
+        }
+
+        return timedSearch(searchType, searchType == SearchType.HASHTAG ? "hashtag" : "like", Page::getNumberOfElements, () -> switch (searchType) {
+            case TITLE -> searchArticlesContaining(searchType, searchKeyword, pageable, () -> articleRepository.countByTitleContaining(searchKeyword));
+            case CONTENT -> searchArticlesContaining(searchType, searchKeyword, pageable, () -> articleRepository.countByContentContaining(searchKeyword));
+            case ID -> searchArticlesContaining(searchType, searchKeyword, pageable, () -> articleRepository.countByUserAccount_UserIdContaining(searchKeyword));
+            case NICKNAME -> searchArticlesContaining(searchType, searchKeyword, pageable, () -> articleRepository.countByUserAccount_NicknameContaining(searchKeyword));
+            case HASHTAG -> findArticlesViaHashtag("#" + searchKeyword, pageable);
+        });
+    }
+
+    /**
+     * 검색 시간과 결과 건수를 검색 종류(searchType)와 처리 방식(mode: all, index, like, hashtag, cursor)별로 기록한다.
+     * 같은 검색 종류라도 색인/like 중 어느 쪽으로 처리됐는지에 따라 DB 부담이 크게 다르므로 둘 다 태그로 남긴다.
+     */
+    private <T> T timedSearch(SearchType searchType, String mode, ToIntFunction<T> resultSize, Supplier<T> search) {
+        String searchTypeTag = searchType == null ? "NONE" : searchType.name();
+        T result = Timer.builder(SEARCH_TIMER)
+                .tag("searchType", searchTypeTag)
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(search);
+        DistributionSummary.builder(SEARCH_RESULTS_SUMMARY)
+                .tag("searchType", searchTypeTag)
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(resultSize.applyAsInt(result));
+
+        return result;
+    }
+
+    // 부분 일치 검색. 전체 건수는 count 쿼리 결과를 잠시 캐시해서 사용
+    private Page<ArticleSummaryDto> searchArticlesContaining(SearchType searchType, String searchKeyword, Pageable pageable, LongSupplier countQuery) {
+        return toPage(
+                articleRepository.findSummaries(searchType, searchKeyword, pageable),
+                () -> articleCountService.estimateArticlesByKeyword(searchType, searchKeyword, countQuery)
+        );
+    }
+
+    /**
+     * count 쿼리 없이 Slice 와 건수 추정치로 Page 를 만든다.
+     * 마지막 창이면 건수가 정확히 정해지므로 추정치를 쓰지 않고, 그 외에는 추정치가 실제로 본 건수보다 작지 않도록 보정한다.
+     */
+    private static <T> Page<T> toPage(Slice<T> slice, LongSupplier estimatedTotal) {
+        if (slice.getPageable().isUnpaged()) {
+            return new PageImpl<>(slice.getContent());
+        }
+
+        long seen = slice.getPageable().getOffset() + slice.getNumberOfElements();
+        long total = slice.hasNext() ? Math.max(estimatedTotal.getAsLong(), seen + 1) : seen;
+
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
     }
 
+    // 역색인에서 랭킹 순 게시글 ID 페이지를 얻고, 해당 게시글들을 한 번에 조회
+    private Page<ArticleSummaryDto> searchArticlesViaIndex(SearchType searchType, String searchKeyword, Pageable pageable) {
+        Page<Long> articleIds = articleSearchIndex.search(searchType, searchKeyword, pageable);
+        if (articleIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, articleIds.getTotalElements());
+        }
+
+        return new PageImpl<>(findSummariesInOrder(articleIds.getContent()), pageable, articleIds.getTotalElements());
+    }
+
+    // ID 목록 순서 그대로 게시글 요약을 한 번에 조회
+    private List<ArticleSummaryDto> findSummariesInOrder(List<Long> articleIds) {
+        if (articleIds.isEmpty()) { return List.of(); }
+
+        Map<Long, ArticleSummaryDto> articles = articleRepository.findSummariesByIds(articleIds).stream()
+                .collect(Collectors.toMap(ArticleSummaryDto::id, Function.identity()));
+
+        return articleIds.stream()
+                .map(articles::get)
+                .filter(Objects::nonNull) // 색인/조회 사이에 삭제된 게시글은 제외
+                .toList();
+    }
+
+    // 게시글 조회. 인기 게시글에 읽기가 몰리므로 캐시를 먼저 본다 (수정/삭제 시 무효화). 댓글은 ArticleCommentService 에서 창 단위로 조회
+    @Cacheable(cacheNames = CacheConfig.ARTICLE, key = "#articleId")
     @Transactional(readOnly = true)
     public ArticleDto getArticle(Long articleId) {
-        return articleRepository.findById(articleId)
+        return PrimaryReads.call(() -> articleRepository.findById(articleId)) // 캐시에 오래 남으므로 복제 지연 없는 값으로 채운다
                 .map(ArticleDto::from)
                 .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
     }
@@ -69,19 +172,53 @@ public class ArticleService {
     // 게시글 저장
     public void saveArticle(ArticleDto dto) {
         UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
-        articleRepository.save(dto.toEntity(userAccount));
+        Article article = dto.toEntity(userAccount);
+        article.replaceHashtags(hashtagService.findOrCreateHashtags(hashtagService.parseHashtagNames(dto.hashtag())));
+        article = articleRepository.save(article);
+        eventPublisher.publishEvent(ArticleEvent.of(ArticleEvent.Type.CREATED, article.getId(), null, ArticleDto.from(article)));
+    }
+
+    /**
+     * 게시글 일괄 저장. ID 를 미리 할당받으므로 insert 가 건마다 왕복하지 않고 JDBC 배치로 나간다.
+     * 해시태그도 게시글마다 조회하지 않고 한 번에 찾거나 만든다.
+     */
+    public void saveArticles(List<ArticleDto> dtos) {
+        if (dtos.isEmpty()) { return; }
+
+        Map<ArticleDto, Set<String>> hashtagNames = new LinkedHashMap<>();
+        dtos.forEach(dto -> hashtagNames.put(dto, hashtagService.parseHashtagNames(dto.hashtag())));
+        Map<String, Hashtag> hashtags = hashtagService.findOrCreateHashtags(hashtagNames.values().stream()
+                        .flatMap(Set::stream)
+                        .collect(Collectors.toCollection(LinkedHashSet::new)))
+                .stream()
+                .collect(Collectors.toMap(Hashtag::getHashtagName, Function.identity()));
+
+        List<Article> articles = dtos.stream()
+                .map(dto -> {
+                    Article article = dto.toEntity(userAccountRepository.getReferenceById(dto.userAccountDto().userId()));
+                    article.replaceHashtags(hashtagNames.get(dto).stream().map(hashtags::get).toList());
+                    return article;
+                })
+                .toList();
+        articleRepository.saveAll(articles).forEach(article ->
+                eventPublisher.publishEvent(ArticleEvent.of(ArticleEvent.Type.CREATED, article.getId(), null, ArticleDto.from(article)))
+        );
     }
 
     // 게시글 수정
+    @CacheEvict(cacheNames = CacheConfig.ARTICLE, key = "#articleId")
     public void updateArticle(Long articleId, ArticleDto dto) {
         try {
             // 내부의 값을 필요로 하지는 않고, 다른 객체에게 할당하는 목적으로만 조회
             // getReferenceById : 탐색 결과가 없으면 내부에서 exception 발생
             Article article = articleRepository.getReferenceById(articleId);
+            ArticleDto previous = ArticleDto.from(article);
 
             if (dto.title() != null) { article.setTitle(dto.title()); }
             if (dto.content() != null) { article.setContent(dto.content()); }
             article.setHashtag(dto.hashtag()); // null 가능
+            article.replaceHashtags(hashtagService.findOrCreateHashtags(hashtagService.parseHashtagNames(dto.hashtag())));
+            eventPublisher.publishEvent(ArticleEvent.of(ArticleEvent.Type.UPDATED, articleId, previous, ArticleDto.from(article)));
         }
         catch (EntityNotFoundException e) { // 없는 게시글의 수정 정보를 입력
             // 경고 로그를 찍고 아무 것도 하지 않는다
@@ -92,26 +229,169 @@ public class ArticleService {
         // articleRepository.save(article);
     }
 
-    // 게시글 삭제
+    /**
+     * Spring Data REST 로 저장된 게시글(POST/PUT/PATCH /api/articles)의 후처리. 리포지토리 저장은 이 서비스를 거치지 않으므로,
+     * 정규화된 해시태그를 원본 해시태그 문자열에 맞추고 다른 쓰기와 같은 변경 이벤트를 발행한다.
+     *
+     * @param previous 저장 전 게시글 (새로 만든 게시글이면 null)
+     */
+    @CacheEvict(cacheNames = CacheConfig.ARTICLE, key = "#articleId")
+    public void syncSavedArticle(Long articleId, ArticleDto previous) {
+        articleRepository.findById(articleId).ifPresent(article -> {
+            article.replaceHashtags(hashtagService.findOrCreateHashtags(hashtagService.parseHashtagNames(article.getHashtag())));
+            ArticleEvent.Type type = previous == null ? ArticleEvent.Type.CREATED : ArticleEvent.Type.UPDATED;
+            eventPublisher.publishEvent(ArticleEvent.of(type, articleId, previous, ArticleDto.from(article)));
+        });
+    }
+
+    // 게시글 삭제. 댓글이 많아도 댓글 수와 무관하게 DELETE 세 번으로 끝난다
+    @CacheEvict(cacheNames = CacheConfig.ARTICLE, key = "#articleId")
     public void deleteArticle(long articleId) {
-        articleRepository.deleteById(articleId);
+        articleRepository.findById(articleId).ifPresent(article -> deleteInBulk(List.of(article)));
     }
 
-    // 게시글 수 반환
+    /**
+     * 게시글 일괄 삭제. 없는 ID 는 건너뛴다.
+     * 어떤 게시글이 캐시에 있는지 따로 추적하지 않으므로, 커밋 후 게시글 캐시를 통째로 비운다.
+     *
+     * @return 삭제한 게시글 수
+     */
+    @CacheEvict(cacheNames = CacheConfig.ARTICLE, allEntries = true)
+    public int deleteArticles(Collection<Long> articleIds) {
+        List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(articleIds));
+        int deleted = 0;
+        for (int from = 0; from < distinctIds.size(); from += DELETE_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, distinctIds.size()));
+            deleted += deleteInBulk(articleRepository.findAllById(chunk));
+        }
+
+        return deleted;
+    }
+
+    /**
+     * 조건(Querydsl Predicate)에 맞는 게시글 일괄 삭제. 청크 단위로 읽고 지우므로 대상이 많아도 영속성 컨텍스트가 커지지 않고, 청크마다 count 쿼리를 날리지 않는다.
+     * 한 트랜잭션이므로 중간에 실패하면 전부 롤백된다.
+     *
+     * @return 삭제한 게시글 수
+     */
+    @CacheEvict(cacheNames = CacheConfig.ARTICLE, allEntries = true)
+    public long deleteArticles(Predicate predicate) {
+        long deleted = 0;
+        int chunkSize;
+        do {
+            // 지운 게시글은 다음 조회에 나오지 않으므로 항상 첫 페이지
+            List<Article> chunk = articleRepository.findFirstById(predicate, DELETE_CHUNK_SIZE);
+            chunkSize = chunk.size();
+            deleted += deleteInBulk(chunk);
+        } while (chunkSize == DELETE_CHUNK_SIZE);
+
+        return deleted;
+    }
+
+    /**
+     * 댓글과 해시태그 연결을 게시글 ID 조건으로 한 번에 지운 뒤 게시글을 지운다.
+     * cascade 로 지우면 댓글을 전부 읽어 한 건씩 DELETE 하므로 댓글 수만큼 SQL 이 나간다.
+     * 이벤트 리스너(건수, 해시태그 카탈로그, 색인)가 삭제 전 게시글(작성자, 해시태그)을 쓰므로 DTO 로 옮겨 둔 뒤 지운다.
+     */
+    private int deleteInBulk(List<Article> articles) {
+        if (articles.isEmpty()) { return 0; }
+
+        List<ArticleDto> previous = articles.stream().map(ArticleDto::from).toList();
+        List<Long> articleIds = previous.stream().map(ArticleDto::id).toList();
+
+        articleCommentRepository.deleteByArticleIds(articleIds);
+        hashtagRepository.deleteArticleLinksByArticleIds(articleIds);
+        int deleted = articleRepository.deleteByIds(articleIds);
+        previous.forEach(dto -> eventPublisher.publishEvent(ArticleEvent.of(ArticleEvent.Type.DELETED, dto.id(), dto, null)));
+
+        return deleted;
+    }
+
+    // 게시글 수 반환. 상세 페이지마다 count(*) 를 날리지 않도록 유지 중인 카운터 사용 (DB 를 읽지 않으므로 트랜잭션/커넥션도 열지 않는다)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public long getArticleCount() {
-        return articleRepository.count();
+        return articleCountService.countArticles();
     }
 
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticlesViaHashtag(String hashtag, Pageable pageable) {
+    public Page<ArticleSummaryDto> searchArticlesViaHashtag(String hashtag, Pageable pageable) {
+        return timedSearch(SearchType.HASHTAG, "hashtag", Page::getNumberOfElements, () -> findArticlesViaHashtag(hashtag, pageable));
+    }
+
+    private Page<ArticleSummaryDto> findArticlesViaHashtag(String hashtag, Pageable pageable) {
         if (hashtag == null || hashtag.isBlank()) {
             return Page.empty(pageable);
         }
 
-        return articleRepository.findByHashtag(hashtag, pageable).map(ArticleDto::from);
+        Set<String> hashtagNames = hashtagService.parseHashtagNames(hashtag);
+        List<Long> hashtagIds = hashtagService.findHashtagIds(hashtagNames);
+        if (hashtagNames.isEmpty() || hashtagIds.size() < hashtagNames.size()) { // 없는 해시태그가 섞여 있으면 결과 없음
+            return Page.empty(pageable);
+        }
+
+        // article_hashtag 커버링 인덱스로 ID 만 최신순으로 뽑은 뒤 게시글 조회. 인덱스 순서를 쓰므로 pageable 의 sort 는 적용하지 않는다
+        Slice<Long> articleIds = hashtagRepository.findArticleIdsByHashtagIds(
+                hashtagIds,
+                hashtagIds.size(),
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+        ).map(Number::longValue);
+
+        return toPage(
+                new SliceImpl<>(findSummariesInOrder(articleIds.getContent()), pageable, articleIds.hasNext()),
+                () -> articleCountService.countArticlesByHashtags(hashtagNames)
+        );
+    }
+
+    /**
+     * 키셋(커서) 기반 게시글 리스트 조회. OFFSET 을 쓰지 않으므로 몇 번째 창이든 비용이 같다.
+     *
+     * @param hashtag 해시태그 필터 (null 이면 전체 게시글)
+     * @param after 이 커서 다음(더 오래된) 게시글을 조회. 빈 문자열이면 첫 창
+     * @param before 이 커서 이전(더 최신) 게시글을 조회. after 보다 우선한다
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<ArticleSummaryDto> searchArticlesByCursor(String hashtag, String after, String before, int size) {
+        return timedSearch(hashtag == null ? null : SearchType.HASHTAG, "cursor", cursorSlice -> cursorSlice.content().size(),
+                () -> findArticlesByCursor(hashtag, after, before, size));
+    }
+
+    private CursorSlice<ArticleSummaryDto> findArticlesByCursor(String hashtag, String after, String before, int size) {
+        boolean backward = before != null && !before.isBlank();
+        String encodedCursor = backward ? before : after;
+        KeysetCursor cursor = encodedCursor == null || encodedCursor.isBlank() ? null : KeysetCursor.decode(encodedCursor);
+
+        // 한 건 더 읽어서 다음 창 존재 여부 판단
+        List<ArticleSummaryDto> rows = articleRepository.findByKeyset(
+                hashtag == null ? Set.of() : hashtagService.parseHashtagNames(hashtag),
+                cursor == null ? null : cursor.createdAt(),
+                cursor == null ? null : cursor.id(),
+                backward,
+                size + 1
+        );
+        boolean hasMore = rows.size() > size;
+        List<ArticleSummaryDto> window = new ArrayList<>(rows.subList(0, Math.min(size, rows.size())));
+        if (backward) { Collections.reverse(window); } // 역방향 조회 결과를 다시 최신순으로
+
+        boolean hasNext = backward || hasMore;
+        boolean hasPrevious = backward ? hasMore : cursor != null;
+        if (window.isEmpty()) {
+            return CursorSlice.of(List.of(), null, null);
+        }
+
+        ArticleSummaryDto first = window.get(0);
+        ArticleSummaryDto last = window.get(window.size() - 1);
+
+        return CursorSlice.of(
+                List.copyOf(window),
+                hasNext ? KeysetCursor.of(last.createdAt(), last.id()).encode() : null,
+                hasPrevious ? KeysetCursor.of(first.createdAt(), first.id()).encode() : null
+        );
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 메모리 카탈로그만 읽는다
     public List<String> getHashtags() {
-        return articleRepository.findAllDistinctHashtags();
+        return hashtagCatalogService.getHashtagNames().stream() // DB 대신 메모리 카탈로그
+                .map(hashtagName -> "#" + hashtagName)
+                .toList();
     }
 }
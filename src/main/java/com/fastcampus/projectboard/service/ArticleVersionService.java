@@ -0,0 +1,75 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.dto.ArticleVersionDto;
+import com.fastcampus.projectboard.dto.ContentVersion;
+import com.fastcampus.projectboard.event.ArticleEvent;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.persistence.EntityNotFoundException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조건부 GET(ETag)용 검증 값 계산.
+ * 상세 화면은 게시글/댓글의 수정 시각만 집계하고, 리스트 화면은 게시글 변경 이벤트마다 올라가는 메모리 버전을 쓴다.
+ * 본문이나 엔티티 그래프를 읽지 않고 304 여부를 판단하기 위함.
+ * Last-Modified 는 보내지 않는다. 리스트 버전은 인스턴스마다 따로라 다른 인스턴스의 시각으로는 If-Modified-Since 를 판단할 수 없고,
+ * 상세 화면의 ETag 에 섞는 댓글 수/전체 게시글 수/보는 사람은 수정 시각 하나로 나타낼 수 없기 때문.
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class ArticleVersionService {
+    private final ArticleRepository articleRepository;
+    private final ArticleCountService articleCountService;
+
+    // 재기동하면 버전이 0 부터 다시 시작하므로 기동 시각을 ETag 에 섞는다. 인스턴스마다 ETag 가 달라 다른 인스턴스에서는 304 대신 200 이 나갈 뿐이다
+    private final long startedAt = Instant.now().toEpochMilli();
+    private final AtomicLong listVersion = new AtomicLong();
+
+    // 게시글 리스트 화면 (/articles, /articles/search-hashtag)
+    public ContentVersion getListVersion() {
+        return ContentVersion.of("articles-" + startedAt + "-" + listVersion.get(), ContentVersion.NO_LAST_MODIFIED);
+    }
+
+    /**
+     * 게시글 상세 화면. 페이지에 세션별 CSRF 토큰(삭제 폼)과 로그인 사용자가 들어가므로 보는 사람도 ETag 에 섞는다.
+     * 로그인하거나 세션이 바뀌면 ETag 가 달라져, 브라우저가 옛 토큰이 든 페이지를 304 로 계속 쓰지 않는다.
+     *
+     * @param viewer 보는 사람 식별 값 (세션 토큰, 사용자 등의 해시). ETag 에 그대로 들어가므로 원문을 넘기지 않는다
+     */
+    public ContentVersion getArticleVersion(Long articleId, String viewer) {
+        ContentVersion version = getArticleVersion(articleId);
+
+        return ContentVersion.of(version.eTag() + "-" + viewer, version.lastModified());
+    }
+
+    // 게시글 상세 데이터 (댓글 API). 마지막 댓글과 이전/다음 이동에 쓰는 전체 게시글 수까지 반영
+    public ContentVersion getArticleVersion(Long articleId) {
+        ArticleVersionDto version = articleRepository.findVersion(articleId)
+                .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
+
+        long articleModifiedAt = toEpochMilli(version.modifiedAt());
+        long lastCommentModifiedAt = toEpochMilli(version.lastCommentModifiedAt());
+
+        return ContentVersion.of(
+                "article-" + articleId + "-" + articleModifiedAt + "-" + lastCommentModifiedAt + "-" + version.commentCount() + "-" + articleCountService.countArticles(),
+                ContentVersion.NO_LAST_MODIFIED
+        );
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ArticleEvent event) {
+        listVersion.incrementAndGet();
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? 0L : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,139 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.CacheConfig;
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.event.ArticleEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수.
+ * 조회마다 UPDATE 를 날리면 인기 게시글 행에 락이 몰리므로, 조회는 게시글별 LongAdder 에 더하고 쌓인 증가분을 주기적으로 한 번의 배치 UPDATE 로 반영한다.
+ * 배치는 한 트랜잭션으로 쓰므로 일부만 반영되는 일은 없다. 실패하면 전부 롤백되고 증가분은 다음 주기에 그대로 다시 쓴다.
+ * 장애로 종료되면 마지막 반영 이후의 증가분(최대 flush 주기만큼)은 잃는다. 정상 종료 시에는 남은 증가분을 반영하고 내려간다.
+ * 화면에 보이는 조회수는 DB 값에 아직 반영 전인 증가분을 더한 값이며, 조건부 요청(ETag)의 검증 값에는 넣지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleViewCountService {
+    private static final String ADD_VIEW_COUNT_SQL = "update article set view_count = view_count + ? where id = ?";
+    private static final int BATCH_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    private final Map<Long, Long> flushingViews = new ConcurrentHashMap<>(); // DB 에 쓰는 중인 증가분. 쓰는 동안에도 화면 값이 줄지 않도록
+
+    // 조회 1회 기록. 락 없이 메모리 카운터만 올린다
+    public void increaseViewCount(Long articleId) {
+        LongAdder views = pendingViews.get(articleId);
+        if (views == null) {
+            views = pendingViews.computeIfAbsent(articleId, k -> new LongAdder());
+        }
+        views.increment();
+    }
+
+    // DB 에 저장된 조회수 + 아직 반영되지 않은 증가분
+    public long getViewCount(Long articleId, long persistedViewCount) {
+        LongAdder views = pendingViews.get(articleId);
+
+        return persistedViewCount
+                + (views == null ? 0L : views.sum())
+                + flushingViews.getOrDefault(articleId, 0L);
+    }
+
+    public ArticleDto withPendingViews(ArticleDto dto) {
+        return dto.withViewCount(getViewCount(dto.id(), dto.viewCount()));
+    }
+
+    public ArticleSummaryDto withPendingViews(ArticleSummaryDto dto) {
+        return dto.withViewCount(getViewCount(dto.id(), dto.viewCount()));
+    }
+
+    // 쌓인 증가분을 게시글 ID 순서로 배치 UPDATE. 여러 인스턴스가 동시에 반영해도 같은 순서로 락을 잡는다
+    @Scheduled(
+            initialDelayString = "${board.view-count.flush-interval:PT10S}",
+            fixedDelayString = "${board.view-count.flush-interval:PT10S}"
+    )
+    @PreDestroy
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new TreeMap<>();
+        pendingViews.forEach((articleId, views) -> {
+            long delta = views.sum();
+            if (delta != 0) {
+                flushingViews.put(articleId, delta);
+                views.add(-delta); // reset 대신 뺄셈. 그 사이에 들어온 조회는 남는다
+                deltas.put(articleId, delta);
+            }
+            removeIfDrained(articleId, views);
+        });
+        if (deltas.isEmpty()) { return; }
+
+        try {
+            // BATCH_SIZE 단위로 나뉜 배치가 각각 커밋되면, 실패 시 이미 반영된 증가분까지 다시 더하게 된다
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, deltas.entrySet(), BATCH_SIZE, (ps, entry) -> {
+                        ps.setLong(1, entry.getValue());
+                        ps.setLong(2, entry.getKey());
+                    })
+            );
+            evictArticles(deltas.keySet());
+            log.debug("조회수 반영 - articles: {}", deltas.size());
+        }
+        catch (DataAccessException e) {
+            // 전부 롤백됐으므로 증가분 전체를 다음 주기에 다시 시도
+            deltas.forEach((articleId, delta) -> pendingViews.computeIfAbsent(articleId, k -> new LongAdder()).add(delta));
+            log.warn("조회수 반영 실패. 다음 주기에 다시 시도합니다 - articles: {}", deltas.size(), e);
+        }
+        finally {
+            flushingViews.clear();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ArticleEvent event) {
+        if (event.type() == ArticleEvent.Type.DELETED) {
+            pendingViews.remove(event.articleId());
+        }
+    }
+
+    // 캐시된 게시글은 반영 전 조회수를 들고 있으므로, 반영한 게시글만 캐시에서 내린다
+    private void evictArticles(Iterable<Long> articleIds) {
+        Cache articles = Objects.requireNonNull(cacheManager.getCache(CacheConfig.ARTICLE));
+        for (Long articleId : articleIds) {
+            articles.evictIfPresent(articleId);
+        }
+    }
+
+    /**
+     * 비운 카운터는 맵에서 뺀다. 남겨 두면 한 번이라도 조회된 게시글마다 카운터가 계속 쌓인다.
+     * 빼는 사이에 이 카운터에 더해진 조회는 새 카운터로 옮긴다. 옮긴 뒤에 늦게 더해지는 조회(카운터를 꺼낸 직후 뺀 경우)는 잃을 수 있다.
+     */
+    private void removeIfDrained(Long articleId, LongAdder views) {
+        if (views.sum() != 0 || !pendingViews.remove(articleId, views)) { return; }
+
+        long late = views.sum();
+        if (late != 0) {
+            pendingViews.computeIfAbsent(articleId, k -> new LongAdder()).add(late);
+        }
+    }
+}
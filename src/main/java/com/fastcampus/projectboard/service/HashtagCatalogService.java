@@ -0,0 +1,153 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.HashtagUsageDto;
+import com.fastcampus.projectboard.event.ArticleEvent;
+import com.fastcampus.projectboard.repository.HashtagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 해시태그 카탈로그 (해시태그 이름 -> 사용 게시글 수).
+ * 기동 시 한 번 DB 에서 읽고, 이후에는 게시글 변경 이벤트로 갱신한다. 요청마다 select distinct 를 날리지 않기 위함.
+ * 이벤트 누락 등으로 생길 수 있는 오차는 주기적인 DB 대조로 바로잡는다.
+ * 건수 변경(이벤트 반영, DB 대조)은 한 락 안에서만 하고, 변경마다 버전을 올려 정렬된 이름 목록 캐시가 이전 상태로 덮어써지지 않게 한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class HashtagCatalogService {
+    private final HashtagRepository hashtagRepository;
+    private final HashtagService hashtagService;
+
+    private final Map<String, AtomicLong> usageCounts = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong(); // 건수를 바꾼 뒤에 올린다
+    private volatile SortedHashtagNames sortedHashtagNames = new SortedHashtagNames(-1, List.of());
+
+    private final Object writeLock = new Object();
+    private Map<String, Long> deltasDuringReconcile; // writeLock 으로 보호. DB 대조 중이 아니면 null
+
+    /**
+     * 게시글이 하나 이상 있는 해시태그 이름 (가나다순).
+     * 계산 전에 읽은 버전을 함께 저장하므로, 계산 도중 건수가 바뀌어 늦게 저장된 목록은 다음 호출에서 버전이 달라 다시 계산된다.
+     */
+    public List<String> getHashtagNames() {
+        long currentVersion = version.get();
+        SortedHashtagNames cached = sortedHashtagNames;
+        if (cached.version() == currentVersion) { return cached.names(); }
+
+        List<String> names = usageCounts.entrySet().stream()
+                .filter(entry -> entry.getValue().get() > 0)
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+        sortedHashtagNames = new SortedHashtagNames(currentVersion, names);
+
+        return names;
+    }
+
+    // 사용 게시글 수 상위 N 개 해시태그 (태그 클라우드용)
+    public List<HashtagUsageDto> getTopHashtags(int limit) {
+        Comparator<HashtagUsageDto> byUsage = Comparator.comparingLong(HashtagUsageDto::articleCount)
+                .thenComparing(HashtagUsageDto::hashtagName, Comparator.reverseOrder());
+        PriorityQueue<HashtagUsageDto> top = new PriorityQueue<>(byUsage); // 최소 힙으로 상위 N 개만 유지
+
+        usageCounts.forEach((name, count) -> {
+            long articleCount = count.get();
+            if (articleCount <= 0) { return; }
+
+            top.offer(HashtagUsageDto.of(name, articleCount));
+            if (top.size() > limit) { top.poll(); }
+        });
+
+        List<HashtagUsageDto> result = new ArrayList<>(top);
+        result.sort(byUsage.reversed());
+
+        return result;
+    }
+
+    public long countArticles(String hashtagName) {
+        AtomicLong count = usageCounts.get(hashtagName);
+        return count == null ? 0L : Math.max(count.get(), 0L);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ArticleEvent event) {
+        synchronized (writeLock) {
+            hashtagNamesOf(event.previous()).forEach(name -> add(name, -1));
+            hashtagNamesOf(event.current()).forEach(name -> add(name, 1));
+            version.incrementAndGet();
+        }
+    }
+
+    // 애플리케이션 기동 시 로드
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reconcile();
+        log.info("해시태그 카탈로그 로드 완료 - hashtags: {}", usageCounts.size());
+    }
+
+    /**
+     * DB 의 실제 사용 수와 대조해서 오차를 바로잡는다.
+     * DB 조회 중에는 이벤트 반영을 막지 않고, 그동안 들어온 증감을 모아 뒀다가 DB 값에 더해 덮어쓴다.
+     * 조회 전에 커밋됐지만 리스너가 조회 중에 실행된 변경은 두 번 세어질 수 있으나, 그 차이는 다음 대조에서 바로잡힌다.
+     */
+    @Scheduled(
+            initialDelayString = "${board.hashtag-catalog.reconcile-interval:PT10M}",
+            fixedDelayString = "${board.hashtag-catalog.reconcile-interval:PT10M}"
+    )
+    public void reconcile() {
+        synchronized (writeLock) { deltasDuringReconcile = new HashMap<>(); }
+        Map<String, Long> actual;
+        try {
+            actual = hashtagRepository.countArticlesByHashtagName();
+        } catch (RuntimeException e) {
+            synchronized (writeLock) { deltasDuringReconcile = null; }
+            throw e;
+        }
+
+        int corrected = 0;
+        synchronized (writeLock) {
+            Map<String, Long> expected = new HashMap<>(actual);
+            deltasDuringReconcile.forEach((name, delta) -> expected.merge(name, delta, Long::sum));
+            deltasDuringReconcile = null;
+
+            for (Map.Entry<String, Long> entry : expected.entrySet()) {
+                long previous = usageCounts.computeIfAbsent(entry.getKey(), k -> new AtomicLong()).getAndSet(entry.getValue());
+                if (previous != entry.getValue()) { corrected++; }
+            }
+            for (String name : usageCounts.keySet()) {
+                if (expected.containsKey(name)) { continue; }
+
+                AtomicLong removed = usageCounts.remove(name);
+                if (removed != null && removed.get() != 0) { corrected++; }
+            }
+            version.incrementAndGet();
+        }
+
+        if (corrected > 0) {
+            log.debug("해시태그 카탈로그 보정 - corrected: {}", corrected);
+        }
+    }
+
+    // writeLock 안에서 호출
+    private void add(String hashtagName, long delta) {
+        usageCounts.computeIfAbsent(hashtagName, k -> new AtomicLong()).addAndGet(delta);
+        if (deltasDuringReconcile != null) { deltasDuringReconcile.merge(hashtagName, delta, Long::sum); }
+    }
+
+    private Set<String> hashtagNamesOf(ArticleDto dto) {
+        return dto == null ? Set.of() : hashtagService.parseHashtagNames(dto.hashtag());
+    }
+
+    private record SortedHashtagNames(long version, List<String> names) {}
+}
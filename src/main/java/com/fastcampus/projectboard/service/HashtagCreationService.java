@@ -0,0 +1,23 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.Hashtag;
+import com.fastcampus.projectboard.repository.HashtagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 새 해시태그를 호출한 쪽과 별도의 트랜잭션에서 저장한다.
+ * 같은 이름을 동시에 저장하다 유니크 제약을 위반해도 이 트랜잭션만 롤백되므로, 게시글 저장이나 가져오기 청크는 그대로 진행할 수 있다.
+ */
+@RequiredArgsConstructor
+@Service
+public class HashtagCreationService {
+    private final HashtagRepository hashtagRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void create(String hashtagName) {
+        hashtagRepository.saveAndFlush(Hashtag.of(hashtagName));
+    }
+}
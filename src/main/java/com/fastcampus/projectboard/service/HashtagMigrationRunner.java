@@ -0,0 +1,65 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.DataMigration;
+import com.fastcampus.projectboard.domain.QArticle;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.repository.DataMigrationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기존 article.hashtag 컬럼 값을 정규화된 해시태그(hashtag, article_hashtag)로 옮기는 마이그레이션.
+ * 아직 연결된 해시태그가 없는 게시글을 ID 순으로 청크 단위 트랜잭션에서 처리하고(count 쿼리 없이 키셋으로 다음 청크 조회), 끝나면 완료 기록을 남겨 다음 기동부터는 건너뛴다.
+ * 해시태그 연결만 추가하고 게시글 컬럼은 건드리지 않으므로 기존 hashtag 값과 수정 시각(modifiedAt)은 그대로 남는다.
+ * ApplicationRunner 는 ApplicationReadyEvent 보다 먼저 실행되므로, 기동 시 카운터/색인 초기화 전에 끝난다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HashtagMigrationRunner implements ApplicationRunner {
+    private static final String MIGRATION_NAME = "article-hashtag-links";
+    private static final int CHUNK_SIZE = 500;
+
+    private final ArticleRepository articleRepository;
+    private final DataMigrationRepository dataMigrationRepository;
+    private final HashtagService hashtagService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (dataMigrationRepository.existsById(MIGRATION_NAME)) { return; }
+
+        QArticle article = QArticle.article;
+        long migrated = 0;
+        long lastId = 0;
+        List<Long> chunkIds;
+
+        do {
+            long after = lastId;
+            chunkIds = transactionTemplate.execute(status -> {
+                List<Article> chunk = articleRepository.findFirstById(
+                        article.id.gt(after).and(article.hashtag.isNotNull()).and(article.hashtags.isEmpty()),
+                        CHUNK_SIZE
+                );
+                chunk.forEach(it ->
+                        it.replaceHashtags(hashtagService.findOrCreateHashtags(hashtagService.parseHashtagNames(it.getHashtag())))
+                );
+
+                return chunk.stream().map(Article::getId).toList();
+            });
+            if (!chunkIds.isEmpty()) { lastId = chunkIds.get(chunkIds.size() - 1); }
+            migrated += chunkIds.size();
+        } while (chunkIds.size() == CHUNK_SIZE);
+
+        dataMigrationRepository.save(DataMigration.of(MIGRATION_NAME, LocalDateTime.now()));
+        log.info("해시태그 마이그레이션 완료 - articles: {}", migrated);
+    }
+}
@@ -0,0 +1,80 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.Hashtag;
+import com.fastcampus.projectboard.repository.HashtagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class HashtagService {
+    private static final Pattern DELIMITER = Pattern.compile("[\\s,]+");
+    private static final Pattern DISALLOWED = Pattern.compile("[^\\p{L}\\p{N}_]");
+    private static final int MAX_HASHTAG_NAME_LENGTH = 50;
+
+    private final HashtagRepository hashtagRepository;
+    private final HashtagCreationService hashtagCreationService;
+
+    /**
+     * 해시태그 입력 문자열을 정규화된 해시태그 이름 집합으로 변환한다.
+     * "#Java #스프링, boot" -> [java, 스프링, boot]
+     */
+    public Set<String> parseHashtagNames(String hashtags) {
+        if (hashtags == null || hashtags.isBlank()) { return Set.of(); }
+
+        return DELIMITER.splitAsStream(hashtags)
+                .map(this::normalize)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    // 이름에 해당하는 해시태그를 찾고, 없는 것은 새로 만든다 (동시에 같은 이름을 만든 요청이 있으면 먼저 커밋된 것을 쓴다)
+    public Set<Hashtag> findOrCreateHashtags(Set<String> hashtagNames) {
+        if (hashtagNames.isEmpty()) { return Set.of(); }
+
+        Map<String, Hashtag> existing = hashtagRepository.findByHashtagNameIn(hashtagNames).stream()
+                .collect(Collectors.toMap(Hashtag::getHashtagName, Function.identity()));
+
+        return hashtagNames.stream()
+                .map(name -> existing.computeIfAbsent(name, this::create))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findHashtagIds(Set<String> hashtagNames) {
+        if (hashtagNames.isEmpty()) { return List.of(); }
+
+        return hashtagRepository.findByHashtagNameIn(hashtagNames).stream()
+                .map(Hashtag::getId)
+                .toList();
+    }
+
+    // 별도 트랜잭션에서 저장한 뒤 이 트랜잭션에서 다시 읽는다. 유니크 제약 위반은 다른 요청이 먼저 만든 경우이므로 그 해시태그를 읽는다
+    private Hashtag create(String hashtagName) {
+        try {
+            hashtagCreationService.create(hashtagName);
+        } catch (DataIntegrityViolationException e) {
+            return hashtagRepository.findLockedByHashtagName(hashtagName).orElseThrow(() -> e);
+        }
+
+        return hashtagRepository.findLockedByHashtagName(hashtagName)
+                .orElseThrow(() -> new IllegalStateException("저장한 해시태그가 없습니다 - hashtagName: " + hashtagName));
+    }
+
+    private String normalize(String hashtag) {
+        String name = DISALLOWED.matcher(
+                Normalizer.normalize(hashtag, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT)
+        ).replaceAll("");
+
+        return name.length() > MAX_HASHTAG_NAME_LENGTH ? name.substring(0, MAX_HASHTAG_NAME_LENGTH) : name;
+    }
+}
@@ -0,0 +1,71 @@
+package com.fastcampus.projectboard.web;
+
+import com.fastcampus.projectboard.datasource.PrimaryReads;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 쓰기 요청 이후 잠시 동안 같은 클라이언트의 읽기를 프라이머리로 보내는 필터 (read your writes).
+ * 레플리카는 복제 지연만큼 늦으므로, 글을 쓰고 리다이렉트된 화면에서 방금 쓴 글이 안 보이는 일을 막는다.
+ * 쓰기 요청을 받으면 "이 시각까지 프라이머리" 쿠키를 내려주고, 쿠키가 유효한 동안의 요청은 프라이머리만 쓴다.
+ * 세션이 아닌 쿠키이므로 어느 인스턴스로 가든 같이 동작한다.
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    public static final String COOKIE_NAME = "board-read-primary-until";
+    private static final Set<String> SAFE_METHODS = Set.of(HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name());
+
+    private final Duration window;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        boolean writeRequest = !SAFE_METHODS.contains(request.getMethod());
+        if (writeRequest) {
+            // 리다이렉트로 응답이 커밋되기 전에 미리 내려준다. 쓰기가 실패해도 잠시 프라이머리에서 읽을 뿐이다
+            response.addCookie(readPrimaryCookie(System.currentTimeMillis() + window.toMillis()));
+        }
+
+        if (!writeRequest && !isWithinWindow(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean pinned = PrimaryReads.pin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (pinned) { PrimaryReads.unpin(); }
+        }
+    }
+
+    private boolean isWithinWindow(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE_NAME);
+        if (cookie == null) { return false; }
+
+        try {
+            return Long.parseLong(cookie.getValue()) > System.currentTimeMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private Cookie readPrimaryCookie(long until) {
+        Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(until));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+
+        return cookie;
+    }
+}
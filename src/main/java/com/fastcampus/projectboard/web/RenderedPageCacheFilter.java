@@ -0,0 +1,102 @@
+package com.fastcampus.projectboard.web;
+
+import com.fastcampus.projectboard.event.ArticleEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * 게시글 리스트/해시태그 페이지의 렌더링 결과(HTML)를 통째로 캐시하는 필터.
+ * 같은 조건의 익명 요청은 서비스 호출과 템플릿 렌더링 없이 저장된 바이트를 그대로 내려준다.
+ * 게시글이 생성/수정/삭제되면(커밋 이후) 전부 비운다.
+ */
+@RequiredArgsConstructor
+public class RenderedPageCacheFilter extends OncePerRequestFilter {
+    // 캐시 키를 이루는 파라미터. 이 외의 파라미터는 화면에 영향을 주지 않으므로 무시
+    private static final List<String> KEY_PARAMETERS = List.of("page", "size", "sort", "searchType", "searchValue", "after", "before");
+
+    private final Cache renderedPageCache;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || request.getUserPrincipal() != null; // 로그인 사용자 화면은 사용자마다 다를 수 있으므로 캐시하지 않는다
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String key = cacheKey(request);
+        RenderedPage cached = renderedPageCache.get(key, RenderedPage.class);
+        if (cached != null) {
+            // 컨트롤러를 거치지 않으므로 저장해 둔 검증 값으로 조건부 요청도 여기서 처리
+            if (cached.cacheControl() != null) { response.setHeader(HttpHeaders.CACHE_CONTROL, cached.cacheControl()); }
+            if (new ServletWebRequest(request, response).checkNotModified(cached.eTag(), cached.lastModified())) { return; }
+
+            response.setContentType(cached.contentType());
+            response.setContentLength(cached.body().length);
+            response.getOutputStream().write(cached.body());
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+
+        String contentType = responseWrapper.getContentType();
+        if (responseWrapper.getStatus() == HttpStatus.OK.value()
+                && contentType != null
+                && MediaType.TEXT_HTML.isCompatibleWith(MediaType.parseMediaType(contentType))) {
+            HttpHeaders validators = new HttpHeaders();
+            Optional.ofNullable(responseWrapper.getHeader(HttpHeaders.LAST_MODIFIED)).ifPresent(value -> validators.set(HttpHeaders.LAST_MODIFIED, value));
+
+            renderedPageCache.put(key, new RenderedPage(
+                    contentType,
+                    responseWrapper.getHeader(HttpHeaders.CACHE_CONTROL),
+                    responseWrapper.getHeader(HttpHeaders.ETAG),
+                    validators.getLastModified(), // 없으면 -1
+                    responseWrapper.getContentAsByteArray()
+            ));
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ArticleEvent event) {
+        renderedPageCache.invalidate(); // 커밋 이후라 지연 없이 바로 비운다
+    }
+
+    // 경로 + 정규화된 파라미터 (순서 고정, 빈 값 제거, 기본 페이지 생략)
+    static String cacheKey(HttpServletRequest request) {
+        StringJoiner key = new StringJoiner("&", request.getRequestURI() + "?", "");
+        for (String name : KEY_PARAMETERS) {
+            String[] values = request.getParameterValues(name);
+            if (values == null) { continue; }
+
+            Arrays.stream(values)
+                    .map(String::strip)
+                    .filter(value -> !value.isEmpty())
+                    .filter(value -> !(name.equals("page") && value.equals("0")))
+                    .forEach(value -> key.add(name + "=" + value));
+        }
+
+        return key.toString();
+    }
+
+    private record RenderedPage(String contentType, String cacheControl, String eTag, long lastModified, byte[] body) {}
+}
@@ -0,0 +1,45 @@
+package com.fastcampus.projectboard.web;
+
+import com.fastcampus.projectboard.datasource.SqlStatementBudget;
+import com.fastcampus.projectboard.datasource.SqlStatementCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * HTTP 요청 하나가 실행한 SQL 문 수를 센다. 렌더링 중 지연 로딩으로 나가는 SQL 까지 포함된다.
+ * 카운터는 요청 속성({@link #COUNTER_ATTRIBUTE})에도 넣어 두므로 테스트에서 화면별 SQL 문 수를 검증할 수 있다.
+ */
+@RequiredArgsConstructor
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+    public static final String COUNTER_ATTRIBUTE = SqlStatementBudgetFilter.class.getName() + ".COUNTER";
+
+    private final SqlStatementBudget sqlStatementBudget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter counter = SqlStatementCounter.open();
+        request.setAttribute(COUNTER_ATTRIBUTE, counter);
+
+        SqlStatementCounter previous = SqlStatementCounter.bind(counter);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.restore(previous);
+            sqlStatementBudget.recordRequest(requestName(request), counter);
+        }
+    }
+
+    // 메트릭 태그가 늘어나지 않도록 실제 경로 대신 매핑된 패턴 (예: GET /articles/{articleId})
+    private static String requestName(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        return request.getMethod() + " " + (pattern == null ? "UNKNOWN" : pattern);
+    }
+}
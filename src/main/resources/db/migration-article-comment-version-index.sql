@@ -0,0 +1,5 @@
+-- 댓글 (article_id, modified_at) 인덱스 추가 마이그레이션. MySQL 기준
+-- ddl-auto: create 가 아닌 기존 DB 에 한 번 실행한다. 게시글 상세 ETag 용 버전 조회(댓글 최종 수정 시각, 댓글 수)가 댓글 행을 읽지 않도록 한다
+-- 온라인 DDL 로 만들어지므로 애플리케이션을 내리지 않고 실행해도 된다
+
+create index idx_article_comment_article_id_modified_at on article_comment (article_id, modified_at);
@@ -0,0 +1,5 @@
+-- 게시글 조회수 컬럼 추가 마이그레이션. MySQL 기준
+-- ddl-auto: create 가 아닌 기존 DB 에 한 번 실행한다. 기존 게시글의 조회수는 0 부터 센다
+-- 애플리케이션보다 먼저 실행해야 한다 (조회수 반영 UPDATE 가 없는 컬럼을 쓰지 않도록)
+
+alter table article add view_count bigint not null default 0;
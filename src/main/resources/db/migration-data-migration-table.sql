@@ -0,0 +1,9 @@
+-- 데이터 마이그레이션 완료 기록 테이블 추가 마이그레이션. MySQL 기준
+-- ddl-auto: create 가 아닌 기존 DB 에 한 번 실행한다. 해시태그 마이그레이션(HashtagMigrationRunner)은 다음 기동에 남은 게시글을 한 번 더 옮긴 뒤 완료를 기록한다
+-- 애플리케이션보다 먼저 실행해야 한다 (기동 시 완료 기록을 조회하므로)
+
+create table if not exists data_migration (
+    name varchar(100) not null,
+    completed_at datetime(6) not null,
+    primary key (name)
+);
@@ -0,0 +1,15 @@
+-- 게시글/댓글 ID 생성 방식 변경 (AUTO_INCREMENT -> ID 테이블 pooled-lo) 마이그레이션. MySQL 기준
+-- ddl-auto: create 가 아닌 기존 DB 에 한 번 실행한다. 기존 행의 ID 는 그대로 두고, 새 ID 만 기존 최대값 다음부터 할당한다
+-- 실행 중에는 애플리케이션을 내려 두어야 한다 (AUTO_INCREMENT 로 들어오는 행이 없도록)
+
+create table if not exists article_seq (next_val bigint);
+create table if not exists article_comment_seq (next_val bigint);
+
+delete from article_seq;
+delete from article_comment_seq;
+
+insert into article_seq (next_val) select coalesce(max(id), 0) + 1 from article;
+insert into article_comment_seq (next_val) select coalesce(max(id), 0) + 1 from article_comment;
+
+-- 기존 컬럼의 AUTO_INCREMENT 속성은 남겨 둔다. 애플리케이션이 ID 를 직접 넣으므로 쓰이지 않고,
+-- 외래 키가 참조하는 컬럼이라 속성만 바꾸려 해도 제약 조건을 다시 만들어야 한다
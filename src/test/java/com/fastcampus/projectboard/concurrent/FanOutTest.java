@@ -0,0 +1,117 @@
+package com.fastcampus.projectboard.concurrent;
+
+import com.fastcampus.projectboard.datasource.PrimaryReads;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("동시 실행 - fan-out")
+class FanOutTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ThreadPoolTaskExecutor executor;
+    private FanOut sut;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.initialize();
+        sut = new FanOut(executor, meterRegistry, Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("갈래들을 fork 하면, 서로를 기다리지 않고 동시에 실행한다.")
+    @Test
+    void givenTwoBranches_whenForking_thenRunsConcurrently() {
+        // Given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        // When
+        FanOut.Branch<Boolean> first = sut.fork("first", () -> awaitOther(bothStarted));
+        FanOut.Branch<Boolean> second = sut.fork("second", () -> awaitOther(bothStarted));
+
+        // Then
+        assertThat(first.join()).isTrue(); // 순차 실행이었다면 서로를 기다리다 false
+        assertThat(second.join()).isTrue();
+        assertThat(meterRegistry.get(FanOut.BRANCH_TIMER).tag("branch", "first").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(FanOut.BRANCH_TIMER).tag("branch", "second").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("갈래에서 예외가 나면, join 할 때 감싸지 않은 원래 예외를 던진다.")
+    @Test
+    void givenFailingBranch_whenJoining_thenThrowsOriginalException() {
+        // Given
+        FanOut.Branch<Object> branch = sut.fork("article", () -> { throw new EntityNotFoundException("게시글이 없습니다"); });
+
+        // When
+        Throwable t = catchThrowable(branch::join);
+
+        // Then
+        assertThat(t)
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("게시글이 없습니다");
+    }
+
+    @DisplayName("갈래가 제한 시간 안에 끝나지 않으면, join 은 시간 초과 예외를 던진다.")
+    @Test
+    void givenSlowBranch_whenJoining_thenThrowsQueryTimeoutException() {
+        // Given
+        FanOut timeoutSut = new FanOut(executor, meterRegistry, Duration.ofMillis(50));
+        CountDownLatch never = new CountDownLatch(2); // 다른 갈래가 없으므로 풀리지 않는다
+        FanOut.Branch<Boolean> branch = timeoutSut.fork("slow", () -> awaitOther(never));
+
+        // When
+        Throwable t = catchThrowable(branch::join);
+
+        // Then
+        assertThat(t).isInstanceOf(QueryTimeoutException.class);
+        never.countDown();
+    }
+
+    @DisplayName("갈래는 요청 스레드의 인증 정보와 프라이머리 읽기 고정을 그대로 본다.")
+    @Test
+    void givenSecurityContextAndPrimaryPin_whenForking_thenBranchSeesSameContext() {
+        // Given
+        Authentication authentication = new TestingAuthenticationToken("uno", "password");
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        // When
+        FanOut.Branch<Authentication> seenAuthentication = sut.fork("auth", () -> SecurityContextHolder.getContext().getAuthentication());
+        FanOut.Branch<Boolean> seenPin = PrimaryReads.call(() -> sut.fork("pin", PrimaryReads::isPinned));
+
+        // Then
+        assertThat(seenAuthentication.join()).isSameAs(authentication);
+        assertThat(seenPin.join()).isTrue();
+    }
+
+    private static boolean awaitOther(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
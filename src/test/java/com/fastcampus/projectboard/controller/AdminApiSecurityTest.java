@@ -0,0 +1,129 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.config.SecurityConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 관리용 API 는 Spring Data REST 컨트롤러라 @WebMvcTest 에 올라오지 않는다. 보안 필터 통과 여부만 확인 (통과하면 404)
+@DisplayName("보안 - 관리용 API")
+@Import(SecurityConfig.class)
+@WebMvcTest(value = Void.class, properties = "spring.security.user.password=admin-password")
+class AdminApiSecurityTest {
+    private final MockMvc mvc;
+
+    public AdminApiSecurityTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[api][POST] 가져오기 - 인증 없이 호출하면, 401 을 반환한다.")
+    @Test
+    void givenNoAuthentication_whenImporting_thenReturnsUnauthorized() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(post("/api/articles/import").contentType("application/x-ndjson").content("{}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @WithMockUser
+    @DisplayName("[api][POST] 가져오기 - 관리자가 아니면, 403 을 반환한다.")
+    @Test
+    void givenNonAdminUser_whenImporting_thenReturnsForbidden() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(post("/api/articleComments/import").contentType(MediaType.TEXT_PLAIN).content("id"))
+                .andExpect(status().isForbidden());
+    }
+
+    @DisplayName("[api][POST] 가져오기 - 관리자는 CSRF 토큰 없이 HTTP Basic 으로 호출할 수 있다.")
+    @Test
+    void givenAdminBasicAuthentication_whenImportingWithoutCsrfToken_thenPassesSecurity() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(
+                        post("/api/articles/import")
+                                .contentType("application/x-ndjson")
+                                .content("{}")
+                                .with(httpBasic("admin", "admin-password"))
+                )
+                .andExpect(status().isNotFound());
+    }
+
+    @DisplayName("[api][POST] 게시글 일괄 삭제 - 인증 없이 호출하면, 401 을 반환한다.")
+    @Test
+    void givenNoAuthentication_whenDeletingArticles_thenReturnsUnauthorized() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(post("/api/articles/delete").contentType(MediaType.APPLICATION_JSON).content("{\"articleIds\":[1]}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @WithMockUser
+    @DisplayName("[api][DELETE] 게시글 삭제 - 관리자가 아니면, 403 을 반환한다.")
+    @Test
+    void givenNonAdminUser_whenDeletingArticle_thenReturnsForbidden() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(delete("/api/articles/1"))
+                .andExpect(status().isForbidden());
+    }
+
+    @DisplayName("[api][POST] Data REST 게시글 저장 - 인증 없이 호출하면, 401 을 반환한다.")
+    @Test
+    void givenNoAuthentication_whenCreatingArticleViaDataRest_thenReturnsUnauthorized() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(post("/api/articles").contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"title\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @WithMockUser
+    @DisplayName("[api][PATCH] Data REST 게시글 수정 - 관리자가 아니면, 403 을 반환한다.")
+    @Test
+    void givenNonAdminUser_whenUpdatingArticleViaDataRest_thenReturnsForbidden() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(patch("/api/articles/1").contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"title\"}"))
+                .andExpect(status().isForbidden());
+    }
+
+    @DisplayName("[api][GET] 내보내기 - 인증 없이 호출하면, 401 을 반환한다.")
+    @Test
+    void givenNoAuthentication_whenExporting_thenReturnsUnauthorized() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/api/articles/export"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @WithMockUser
+    @DisplayName("[api][GET] 내보내기 - 관리자가 아니면, 403 을 반환한다.")
+    @Test
+    void givenNonAdminUser_whenExporting_thenReturnsForbidden() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/api/articles/export").queryParam("gzip", "true"))
+                .andExpect(status().isForbidden());
+    }
+}
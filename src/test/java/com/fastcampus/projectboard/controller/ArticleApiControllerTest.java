@@ -0,0 +1,51 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.service.ArticleExportService;
+import com.fastcampus.projectboard.service.ArticleService;
+import com.fastcampus.projectboard.service.ArticleVersionService;
+import com.fastcampus.projectboard.service.ArticleViewCountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Spring Data REST 컨트롤러는 @WebMvcTest 에 올라오지 않으므로 컨트롤러만 올려서 확인 (기본 경로 /api 없이 매핑된다)
+@DisplayName("API 컨트롤러 - 게시글")
+@ExtendWith(MockitoExtension.class)
+class ArticleApiControllerTest {
+    @Mock private ArticleService articleService;
+    @Mock private ArticleExportService articleExportService;
+    @Mock private ArticleVersionService articleVersionService;
+    @Mock private ArticleViewCountService articleViewCountService;
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        mvc = MockMvcBuilders.standaloneSetup(
+                new ArticleApiController(articleService, articleExportService, articleVersionService, articleViewCountService)
+        ).build();
+    }
+
+    @DisplayName("[api][GET] 게시글 커서 조회 - 해석할 수 없는 커서를 주면, 조회하지 않고 400 을 반환한다.")
+    @Test
+    void givenMalformedCursor_whenRequestingArticlesByCursor_thenReturnsBadRequest() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/articles/cursor").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/articles/cursor").param("before", "!!!"))
+                .andExpect(status().isBadRequest());
+        then(articleVersionService).shouldHaveNoInteractions();
+        then(articleService).shouldHaveNoInteractions();
+    }
+}
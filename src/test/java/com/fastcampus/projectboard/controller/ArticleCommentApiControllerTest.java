@@ -0,0 +1,44 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.service.ArticleCommentService;
+import com.fastcampus.projectboard.service.ArticleVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Spring Data REST 컨트롤러는 @WebMvcTest 에 올라오지 않으므로 컨트롤러만 올려서 확인 (기본 경로 /api 없이 매핑된다)
+@DisplayName("API 컨트롤러 - 댓글")
+@ExtendWith(MockitoExtension.class)
+class ArticleCommentApiControllerTest {
+    @Mock private ArticleCommentService articleCommentService;
+    @Mock private ArticleVersionService articleVersionService;
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        mvc = MockMvcBuilders.standaloneSetup(new ArticleCommentApiController(articleCommentService, articleVersionService)).build();
+    }
+
+    @DisplayName("[api][GET] 댓글 다음 창 - 해석할 수 없는 커서를 주면, 조회하지 않고 400 을 반환한다.")
+    @Test
+    void givenMalformedCursor_whenRequestingArticleComments_thenReturnsBadRequest() throws Exception {
+        // Given
+        long articleId = 1L;
+
+        // When & Then
+        mvc.perform(get("/articles/" + articleId + "/comments").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        then(articleVersionService).shouldHaveNoInteractions();
+        then(articleCommentService).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,106 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.datasource.SqlStatementCounter;
+import com.fastcampus.projectboard.service.ArticleService;
+import com.fastcampus.projectboard.web.SqlStatementBudgetFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import javax.sql.DataSource;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 화면별 SQL 문 예산. ArticleControllerTest 는 서비스를 모킹하므로 SQL 이 나가지 않아, 테스트 데이터(data.sql)가 있는 내장 DB 로 화면 전체를 실행한다.
+ * 매핑/연관관계 변경으로 N+1 이 생기면 목록 크기만큼 SQL 문이 늘어 여기서 실패한다.
+ */
+@DisplayName("View 컨트롤러 - 게시글 화면별 SQL 문 예산")
+@AutoConfigureTestDatabase // 내장 DB 로 교체
+@AutoConfigureMockMvc
+@SpringBootTest
+class ArticleControllerSqlBudgetTest {
+    private final MockMvc mvc;
+    private final ArticleService articleService;
+
+    @SpyBean private DataSource dataSource;
+
+    public ArticleControllerSqlBudgetTest(@Autowired MockMvc mvc, @Autowired ArticleService articleService) {
+        this.mvc = mvc;
+        this.articleService = articleService;
+    }
+
+    @DisplayName("[view][GET] 게시글 리스트 페이지 - 요약 프로젝션 한 번으로 조회")
+    @Test
+    void givenTestData_whenRequestingArticlesView_thenStaysWithinSqlBudget() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/articles"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(2));
+    }
+
+    @DisplayName("[view][GET] 게시글 상세 페이지 - 버전, 게시글, 해시태그, 댓글 창")
+    @Test
+    void givenTestData_whenRequestingArticleView_thenStaysWithinSqlBudget() throws Exception {
+        // Given
+        long articleId = 1L;
+
+        // When & Then
+        mvc.perform(get("/articles/" + articleId))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(6));
+    }
+
+    @DisplayName("[view][GET] 해시태그 검색 페이지 - 해시태그 ID, 게시글 ID, 게시글 요약, 건수")
+    @Test
+    void givenTestData_whenRequestingArticleSearchHashtagView_thenStaysWithinSqlBudget() throws Exception {
+        // Given
+        String hashtag = "#turquoise";
+
+        // When & Then
+        mvc.perform(get("/articles/search-hashtag").queryParam("searchValue", hashtag))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(5));
+    }
+
+    @DisplayName("[service] 게시글 수, 해시태그 목록 - 메모리 카운터/카탈로그만 읽으므로 커넥션을 얻지 않는다")
+    @Test
+    void givenInMemoryCounters_whenReadingArticleCountAndHashtags_thenAcquiresNoConnection() throws Exception {
+        // Given - 스케줄 작업 등 다른 스레드의 커넥션은 제외하고 이 스레드만 본다
+        Set<Thread> acquiringThreads = ConcurrentHashMap.newKeySet();
+        willAnswer(invocation -> {
+            acquiringThreads.add(Thread.currentThread());
+            return invocation.callRealMethod();
+        }).given(dataSource).getConnection();
+
+        // When
+        articleService.getArticleCount();
+        articleService.getHashtags();
+
+        // Then
+        assertThat(acquiringThreads).doesNotContain(Thread.currentThread());
+    }
+
+    private static ResultMatcher sqlStatementsAtMost(int maxStatements) {
+        return result -> {
+            SqlStatementCounter counter = (SqlStatementCounter) result.getRequest().getAttribute(SqlStatementBudgetFilter.COUNTER_ATTRIBUTE);
+            assertThat(counter).as("SQL 문 카운터 필터가 적용되지 않았습니다").isNotNull();
+            assertThat(counter.getStatementCount())
+                    .as("SQL 문 예산 초과 - %s", counter.summary())
+                    .isLessThanOrEqualTo(maxStatements);
+        };
+    }
+}
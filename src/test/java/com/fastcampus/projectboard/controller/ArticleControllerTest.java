@@ -1,22 +1,33 @@
 package com.fastcampus.projectboard.controller;
 
+import com.fastcampus.projectboard.concurrent.FanOut;
 import com.fastcampus.projectboard.config.SecurityConfig;
 import com.fastcampus.projectboard.domain.constant.FormStatus;
 import com.fastcampus.projectboard.domain.constant.SearchType;
 import com.fastcampus.projectboard.dto.ArticleDto;
-import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.dto.ContentVersion;
+import com.fastcampus.projectboard.dto.CursorSlice;
+import com.fastcampus.projectboard.dto.KeysetCursor;
 import com.fastcampus.projectboard.dto.UserAccountDto;
 import com.fastcampus.projectboard.dto.request.ArticleRequest;
 import com.fastcampus.projectboard.dto.response.ArticleResponse;
+import com.fastcampus.projectboard.service.ArticleCommentService;
 import com.fastcampus.projectboard.service.ArticleService;
+import com.fastcampus.projectboard.service.ArticleVersionService;
+import com.fastcampus.projectboard.service.ArticleViewCountService;
 import com.fastcampus.projectboard.service.PaginationService;
 import com.fastcampus.projectboard.util.FormDataEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -25,10 +36,13 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -44,6 +58,9 @@ class ArticleControllerTest {
     private final FormDataEncoder formDataEncoder;
 
     @MockBean private ArticleService articleService;
+    @MockBean private ArticleCommentService articleCommentService;
+    @MockBean private ArticleVersionService articleVersionService;
+    @MockBean private ArticleViewCountService articleViewCountService;
     @MockBean private PaginationService paginationService;
 
     public ArticleControllerTest(
@@ -54,6 +71,23 @@ class ArticleControllerTest {
         this.formDataEncoder = formDataEncoder;
     }
 
+    @TestConfiguration
+    static class FanOutTestConfig {
+        // 갈래를 호출 스레드에서 바로 실행 (모킹한 서비스 검증을 단순하게)
+        @Bean
+        FanOut fanOut() {
+            return new FanOut(Runnable::run, new SimpleMeterRegistry(), Duration.ofSeconds(1));
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(articleVersionService.getListVersion()).willReturn(ContentVersion.of("\"articles-v1\"", 0L));
+        given(articleVersionService.getArticleVersion(anyLong(), anyString())).willReturn(ContentVersion.of("\"article-v1\"", ContentVersion.NO_LAST_MODIFIED));
+        given(articleViewCountService.withPendingViews(any(ArticleDto.class))).willAnswer(returnsFirstArg());
+        given(articleViewCountService.withPendingViews(any(ArticleSummaryDto.class))).willAnswer(returnsFirstArg());
+    }
+
     @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 정상 호출")
     @Test
     public void givenNothing_whenRequestingArticlesView_thenReturnsArticlesView() throws Exception {
@@ -126,13 +160,46 @@ class ArticleControllerTest {
         then(paginationService).should().getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages());
     }
 
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 커서 모드 호출")
+    @Test
+    void givenCursor_whenRequestingArticlesView_thenReturnsArticlesViewWithCursors() throws Exception {
+        // Given
+        String cursor = KeysetCursor.of(LocalDateTime.now(), 1L).encode();
+        given(articleService.searchArticlesByCursor(null, cursor, null, 10))
+                .willReturn(CursorSlice.of(List.of(ArticleSummaryDto.of(1L, "title", "#java", "content", LocalDateTime.now(), "uno", "Uno", 0L)), "next", "previous"));
+
+        // When & Then
+        mvc.perform(get("/articles").queryParam("after", cursor))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attributeExists("articles"))
+                .andExpect(model().attributeExists("cursors"));
+        then(articleService).should().searchArticlesByCursor(null, cursor, null, 10);
+        then(articleService).shouldHaveNoMoreInteractions();
+        then(paginationService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 잘못된 커서면 400")
+    @Test
+    void givenMalformedCursor_whenRequestingArticlesView_thenReturnsBadRequest() throws Exception {
+        // Given
+        String cursor = "not-a-cursor";
+
+        // When & Then
+        mvc.perform(get("/articles").queryParam("after", cursor))
+                .andExpect(status().isBadRequest());
+        then(articleService).shouldHaveNoInteractions();
+    }
+
     @DisplayName("[view][GET] 게시글 페이지 - 정상 호출")
     @Test
     public void givenNothing_whenRequestingArticleView_thenReturnsArticleView() throws Exception {
         // Given
         Long articleId = 1L;
         long totalCount = 1L;
-        given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithCommentsDto());
+        given(articleService.getArticle(articleId)).willReturn(createArticleDto());
+        given(articleCommentService.searchArticleComments(articleId, null, 20)).willReturn(CursorSlice.of(List.of(), "next", null));
         given(articleService.getArticleCount()).willReturn(totalCount);
 
         // When & Then
@@ -142,10 +209,54 @@ class ArticleControllerTest {
                 .andExpect(view().name("articles/detail"))
                 .andExpect(model().attributeExists("article"))
                 .andExpect(model().attributeExists("articleComments"))
-                .andExpect(model().attributeExists("articleComments"))
+                .andExpect(model().attribute("nextCommentsCursor", "next"))
                 .andExpect(model().attribute("totalCount", totalCount));
-        then(articleService).should().getArticleWithComments(articleId);
+        then(articleService).should().getArticle(articleId);
+        then(articleCommentService).should().searchArticleComments(articleId, null, 20);
         then(articleService).should().getArticleCount();
+        then(articleViewCountService).should().increaseViewCount(articleId);
+    }
+
+    @DisplayName("[view][GET] 게시글 페이지 - 없는 게시글이면 조회수를 세지 않는다")
+    @Test
+    void givenNonexistentArticleId_whenRequestingArticleView_thenDoesNotCountView() {
+        // Given
+        Long articleId = 0L;
+        given(articleVersionService.getArticleVersion(eq(articleId), anyString())).willThrow(new EntityNotFoundException());
+
+        // When & Then
+        assertThatThrownBy(() -> mvc.perform(get("/articles/" + articleId)))
+                .hasCauseInstanceOf(EntityNotFoundException.class);
+        then(articleViewCountService).should(never()).increaseViewCount(any());
+    }
+
+    @DisplayName("[view][GET] 게시글 페이지 - 잘못된 댓글 커서면 400")
+    @Test
+    void givenMalformedCommentsCursor_whenRequestingArticleView_thenReturnsBadRequest() throws Exception {
+        // Given
+        String commentsAfter = "not-a-cursor";
+
+        // When & Then
+        mvc.perform(get("/articles/1").queryParam("commentsAfter", commentsAfter))
+                .andExpect(status().isBadRequest());
+        then(articleService).shouldHaveNoInteractions();
+        then(articleCommentService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[view][GET] 게시글 페이지 - 변경이 없으면 조회 없이 304")
+    @Test
+    void givenMatchingETag_whenRequestingArticleView_thenReturnsNotModified() throws Exception {
+        // Given
+        Long articleId = 1L;
+
+        // When & Then
+        mvc.perform(get("/articles/1").header("If-None-Match", "\"article-v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"article-v1\""));
+        then(articleVersionService).should().getArticleVersion(eq(articleId), anyString());
+        then(articleViewCountService).should().increaseViewCount(articleId);
+        then(articleService).shouldHaveNoInteractions();
+        then(articleCommentService).shouldHaveNoInteractions();
     }
 
     @Disabled("구현 중")
@@ -312,21 +423,6 @@ class ArticleControllerTest {
         );
     }
 
-    private ArticleWithCommentsDto createArticleWithCommentsDto() {
-        return ArticleWithCommentsDto.of(
-                1L,
-                createUserAccountDto(),
-                Set.of(),
-                "title",
-                "content",
-                "#java",
-                LocalDateTime.now(),
-                "uno",
-                LocalDateTime.now(),
-                "uno"
-        );
-    }
-
     private UserAccountDto createUserAccountDto() {
         return UserAccountDto.of(
                 "uno",
@@ -1,15 +1,23 @@
 package com.fastcampus.projectboard.controller;
 
+import com.fastcampus.projectboard.dto.response.ArticleSummaryResponse;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -18,7 +26,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @DisplayName("Data REST - API 테스트")
 @Transactional // test 에서 적용되는 @transactional 의 기본 동작은 Rollback
 @AutoConfigureMockMvc
-@SpringBootTest
+@SpringBootTest(properties = "spring.security.user.password=admin-password")
 public class DataRestTest {
     private final MockMvc mvc;
 
@@ -94,4 +102,54 @@ public class DataRestTest {
         mvc.perform(delete("/api/userAccounts")).andExpect(status().isNotFound());
         mvc.perform(head("/api/userAccounts")).andExpect(status().isNotFound());
     }
+
+    @DisplayName("[api] 해시태그는 조회만 제공하고, 생성/수정/삭제는 제공하지 않는다.")
+    @Test
+    void givenNothing_whenWritingHashtags_thenReturnsMethodNotAllowed() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(post("/api/hashtags").with(csrf()).contentType(MediaType.APPLICATION_JSON).content("{\"hashtagName\":\"spam\"}"))
+                .andExpect(status().isMethodNotAllowed());
+        mvc.perform(put("/api/hashtags/1").with(csrf()).contentType(MediaType.APPLICATION_JSON).content("{\"hashtagName\":\"spam\"}"))
+                .andExpect(status().isMethodNotAllowed());
+        mvc.perform(delete("/api/hashtags/1").with(csrf())).andExpect(status().isMethodNotAllowed());
+    }
+
+    // 변경 이벤트는 커밋 이후에 반영되므로 테스트 트랜잭션 없이 실행하고, 만든 게시글은 API 로 지운다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("[api] 게시글 저장 - 저장한 게시글이 검색되고 리스트 ETag 가 바뀐다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenNewArticle_whenCreatingViaDataRest_thenArticleIsSearchableAndListETagChanges() throws Exception {
+        // Given
+        String previousETag = mvc.perform(get("/articles"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When
+        String location = mvc.perform(
+                        post("/api/articles")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"title\":\"datarest-created\",\"content\":\"content\",\"hashtag\":\"#datarest\",\"userAccount\":{\"userId\":\"uno\"}}")
+                                .with(httpBasic("admin", "admin-password"))
+                )
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+
+        // Then
+        try {
+            mvc.perform(get("/articles").header(HttpHeaders.IF_NONE_MATCH, previousETag))
+                    .andExpect(status().isOk());
+            MvcResult searchResult = mvc.perform(get("/articles").param("searchType", "TITLE").param("searchValue", "datarest-created"))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            assertThat(((Page<ArticleSummaryResponse>) searchResult.getModelAndView().getModel().get("articles")).getContent())
+                    .extracting(ArticleSummaryResponse::title)
+                    .containsExactly("datarest-created");
+        }
+        finally {
+            mvc.perform(delete(location).with(httpBasic("admin", "admin-password")));
+        }
+    }
 }
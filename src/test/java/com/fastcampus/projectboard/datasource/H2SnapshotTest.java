@@ -0,0 +1,66 @@
+package com.fastcampus.projectboard.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DataSource - H2 스냅숏")
+class H2SnapshotTest {
+    @DisplayName("내보낸 스냅숏을 빈 DB 에 복원하면, 스키마와 데이터와 ID 증가 위치가 그대로다.")
+    @Test
+    void givenExportedSnapshot_whenRestoringIntoEmptyDatabase_thenRestoresSchemaAndData(@TempDir Path directory) throws Exception {
+        // Given
+        Path snapshot = directory.resolve("board.sql.gz");
+        DataSource source = h2();
+        JdbcTemplate sourceJdbc = new JdbcTemplate(source);
+        sourceJdbc.execute("create table hashtag (id bigint generated by default as identity primary key, hashtag_name varchar(50) not null unique)");
+        sourceJdbc.update("insert into hashtag (hashtag_name) values ('java'), ('spring')");
+        try (Connection connection = source.getConnection()) {
+            H2Snapshot.export(connection, snapshot);
+        }
+        DataSource target = h2();
+
+        // When
+        try (Connection connection = target.getConnection()) {
+            H2Snapshot.restore(connection, snapshot);
+        }
+
+        // Then
+        JdbcTemplate targetJdbc = new JdbcTemplate(target);
+        assertThat(targetJdbc.queryForList("select hashtag_name from hashtag order by id", String.class))
+                .containsExactly("java", "spring");
+        targetJdbc.update("insert into hashtag (hashtag_name) values ('jpa')");
+        assertThat(targetJdbc.queryForObject("select id from hashtag where hashtag_name = 'jpa'", Long.class)).isEqualTo(3L);
+    }
+
+    @DisplayName("스냅숏 파일이 없으면, 만드는 방법을 알려주는 예외를 던진다.")
+    @Test
+    void givenMissingSnapshot_whenRestoring_thenThrowsException(@TempDir Path directory) throws Exception {
+        // Given
+        Path snapshot = directory.resolve("missing.sql.gz");
+
+        // When
+        Throwable t;
+        try (Connection connection = h2().getConnection()) {
+            t = catchThrowable(() -> H2Snapshot.restore(connection, snapshot));
+        }
+
+        // Then
+        assertThat(t)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("startupSnapshot");
+    }
+
+    private static DataSource h2() {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
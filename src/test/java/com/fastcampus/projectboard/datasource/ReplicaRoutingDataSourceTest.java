@@ -0,0 +1,145 @@
+package com.fastcampus.projectboard.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DataSource - 읽기/쓰기 라우팅")
+class ReplicaRoutingDataSourceTest {
+    // 로컬 H2 두 개를 프라이머리/레플리카로 쓴다. 각 DB 의 node 테이블에 자기 이름이 들어 있다
+    private final DataSource primary = h2("primary");
+    private final SwitchableDataSource replica = new SwitchableDataSource(h2("replica"));
+
+    private ReplicaRoutingDataSource sut;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ReplicaRoutingDataSource(primary, Map.of("replica-0", replica));
+        sut.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(sut);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 레플리카에서 읽는다.")
+    @Test
+    void givenReadOnlyTransaction_whenQuerying_thenUsesReplica() {
+        // Given
+
+        // When
+        String node = readOnlyTransaction.execute(status -> currentNode());
+
+        // Then
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖의 쿼리는 프라이머리로 간다.")
+    @Test
+    void givenReadWriteTransactionOrNoTransaction_whenQuerying_thenUsesPrimary() {
+        // Given
+
+        // When
+        String inTransaction = readWriteTransaction.execute(status -> currentNode());
+        String withoutTransaction = currentNode();
+
+        // Then
+        assertThat(inTransaction).isEqualTo("primary");
+        assertThat(withoutTransaction).isEqualTo("primary");
+    }
+
+    @DisplayName("프라이머리로 고정하면, 읽기 전용 트랜잭션도 프라이머리에서 읽는다.")
+    @Test
+    void givenPinnedToPrimary_whenQueryingInReadOnlyTransaction_thenUsesPrimary() {
+        // Given
+
+        // When
+        String node = PrimaryReads.call(() -> readOnlyTransaction.execute(status -> currentNode()));
+
+        // Then
+        assertThat(node).isEqualTo("primary");
+        assertThat(PrimaryReads.isPinned()).isFalse();
+    }
+
+    @DisplayName("레플리카 커넥션을 얻지 못하면, 프라이머리에서 읽고 점검을 통과할 때까지 레플리카를 뺀다.")
+    @Test
+    void givenReplicaDown_whenQueryingInReadOnlyTransaction_thenFallsBackToPrimaryUntilReplicaRecovers() {
+        // Given
+        replica.setDown(true);
+
+        // When
+        String whileDown = readOnlyTransaction.execute(status -> currentNode());
+        replica.setDown(false);
+        String beforeCheck = readOnlyTransaction.execute(status -> currentNode());
+        sut.checkReplicas();
+        String afterCheck = readOnlyTransaction.execute(status -> currentNode());
+
+        // Then
+        assertThat(whileDown).isEqualTo("primary");
+        assertThat(beforeCheck).isEqualTo("primary");
+        assertThat(afterCheck).isEqualTo("replica");
+        assertThat(sut.getUnhealthyReplicas()).isEmpty();
+    }
+
+    @DisplayName("레플리카 점검에 실패하면, 읽기 전에 미리 레플리카를 뺀다.")
+    @Test
+    void givenReplicaDown_whenCheckingReplicas_thenMarksReplicaUnhealthy() {
+        // Given
+        replica.setDown(true);
+
+        // When
+        sut.checkReplicas();
+
+        // Then
+        assertThat(sut.getUnhealthyReplicas()).containsExactly("replica-0");
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new JdbcTemplate(dataSource).execute("create table if not exists node as select '" + name + "' as name");
+
+        return dataSource;
+    }
+
+    // 내려간 레플리카 흉내
+    private static class SwitchableDataSource extends DelegatingDataSource {
+        private volatile boolean down;
+
+        SwitchableDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        void setDown(boolean down) {
+            this.down = down;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) { throw new SQLException("replica is down"); }
+            return super.getConnection();
+        }
+    }
+}
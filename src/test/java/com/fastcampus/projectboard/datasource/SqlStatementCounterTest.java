@@ -0,0 +1,64 @@
+package com.fastcampus.projectboard.datasource;
+
+import com.fastcampus.projectboard.datasource.SqlStatementCounter.StatementType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SQL 문 카운터")
+class SqlStatementCounterTest {
+    @AfterEach
+    void tearDown() {
+        SqlStatementCounter.restore(null);
+    }
+
+    @DisplayName("안쪽 범위에서 실행한 SQL 문은, 바깥 범위에도 더해진다.")
+    @Test
+    void givenNestedScopes_whenRecording_thenCountsTowardEnclosingScopes() {
+        // Given
+        SqlStatementCounter request = SqlStatementCounter.open();
+        SqlStatementCounter previous = SqlStatementCounter.bind(request);
+        SqlStatementCounter.recordStatement("select * from article");
+
+        // When
+        SqlStatementCounter method = SqlStatementCounter.open();
+        SqlStatementCounter outer = SqlStatementCounter.bind(method);
+        SqlStatementCounter.recordStatement("insert into article (title) values (?)");
+        SqlStatementCounter.recordEntityLoad();
+        SqlStatementCounter.restore(outer);
+        SqlStatementCounter.restore(previous);
+
+        // Then
+        assertThat(method.getStatementCount()).isEqualTo(1);
+        assertThat(method.getEntityLoadCount()).isEqualTo(1);
+        assertThat(request.getStatementCount()).isEqualTo(2);
+        assertThat(request.getStatementCount(StatementType.SELECT)).isEqualTo(1);
+        assertThat(request.getStatementCount(StatementType.INSERT)).isEqualTo(1);
+        assertThat(request.getEntityLoadCount()).isEqualTo(1);
+        assertThat(SqlStatementCounter.current()).isNull();
+    }
+
+    @DisplayName("걸려 있는 카운터가 없으면, 세지 않는다.")
+    @Test
+    void givenNoCounter_whenRecording_thenIgnores() {
+        // Given
+
+        // When & Then
+        assertThatCode(() -> SqlStatementCounter.recordStatement("select 1")).doesNotThrowAnyException();
+        assertThat(SqlStatementCounter.current()).isNull();
+    }
+
+    @DisplayName("SQL 문 종류는 앞쪽 공백과 주석을 건너뛴 첫 단어로 구분한다.")
+    @Test
+    void givenSqlWithComment_whenClassifying_thenUsesFirstKeyword() {
+        // Given
+
+        // When & Then
+        assertThat(StatementType.of("/* select article */ select a.id from article a")).isEqualTo(StatementType.SELECT);
+        assertThat(StatementType.of("\n  update article set view_count=? where id=?")).isEqualTo(StatementType.UPDATE);
+        assertThat(StatementType.of("delete from article_hashtag where article_id=?")).isEqualTo(StatementType.DELETE);
+        assertThat(StatementType.of("call next value for hashtag_seq")).isEqualTo(StatementType.OTHER);
+    }
+}
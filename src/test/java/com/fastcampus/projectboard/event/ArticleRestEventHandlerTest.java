@@ -0,0 +1,108 @@
+package com.fastcampus.projectboard.event;
+
+import com.fastcampus.projectboard.config.CacheConfig;
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.service.ArticleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("Data REST 이벤트 - 게시글 쓰기 동기화")
+@ExtendWith(MockitoExtension.class)
+class ArticleRestEventHandlerTest {
+    @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleService articleService;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private final CacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.ARTICLE, CacheConfig.RENDERED_PAGE);
+    private ArticleRestEventHandler sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleRestEventHandler(articleRepository, articleService, cacheManager, eventPublisher);
+    }
+
+    @DisplayName("Data REST 로 게시글을 만들면, 생성으로 서비스 후처리를 호출한다.")
+    @Test
+    void givenCreatedArticle_whenHandlingAfterCreate_thenSyncsAsCreated() {
+        // Given
+        Article article = createArticle("title");
+
+        // When
+        sut.afterCreate(article);
+
+        // Then
+        then(articleService).should().syncSavedArticle(1L, null);
+    }
+
+    @DisplayName("Data REST 로 게시글을 수정하면, 저장 전에 읽은 게시글을 수정 전 값으로 넘긴다.")
+    @Test
+    void givenSavedArticle_whenHandlingBeforeAndAfterSave_thenSyncsWithPreviousArticle() {
+        // Given
+        Article stored = createArticle("old title");
+        Article merged = createArticle("new title");
+        given(articleRepository.findById(1L)).willReturn(Optional.of(stored));
+
+        // When
+        sut.capturePrevious(merged);
+        sut.afterSave(merged);
+
+        // Then
+        then(articleService).should().syncSavedArticle(1L, ArticleDto.from(stored));
+    }
+
+    @DisplayName("Data REST 로 게시글을 삭제하면, 게시글 캐시를 비우고 삭제 이벤트를 발행한다.")
+    @Test
+    void givenDeletedArticle_whenHandlingAfterDelete_thenEvictsAndPublishesDeletedEvent() {
+        // Given
+        Article article = createArticle("title");
+        cacheManager.getCache(CacheConfig.ARTICLE).put(1L, "cached");
+
+        // When
+        sut.afterDelete(article);
+
+        // Then
+        assertThat(cacheManager.getCache(CacheConfig.ARTICLE).get(1L)).isNull();
+        then(eventPublisher).should().publishEvent(ArticleEvent.of(ArticleEvent.Type.DELETED, 1L, ArticleDto.from(article), null));
+    }
+
+    @DisplayName("Data REST 로 해시태그 링크를 바꾸면, 해당 게시글 캐시와 렌더링된 페이지 캐시를 비운다.")
+    @Test
+    void givenLinkedArticle_whenHandlingAfterLinkSave_thenEvictsCaches() {
+        // Given
+        Article article = createArticle("title");
+        cacheManager.getCache(CacheConfig.ARTICLE).put(1L, "cached");
+        cacheManager.getCache(CacheConfig.ARTICLE).put(2L, "other");
+        cacheManager.getCache(CacheConfig.RENDERED_PAGE).put("/articles?", "page");
+
+        // When
+        sut.evictLinked(article, null);
+
+        // Then
+        assertThat(cacheManager.getCache(CacheConfig.ARTICLE).get(1L)).isNull();
+        assertThat(cacheManager.getCache(CacheConfig.ARTICLE).get(2L)).isNotNull();
+        assertThat(cacheManager.getCache(CacheConfig.RENDERED_PAGE).get("/articles?")).isNull();
+    }
+
+    private Article createArticle(String title) {
+        Article article = Article.of(UserAccount.of("uno", "pw", null, null, null), title, "content", null);
+        ReflectionTestUtils.setField(article, "id", 1L);
+
+        return article;
+    }
+}
@@ -2,13 +2,18 @@ package com.fastcampus.projectboard.repository;
 
 import com.fastcampus.projectboard.config.JpaConfig;
 import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.Hashtag;
+import com.fastcampus.projectboard.domain.QArticle;
 import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.domain.constant.SearchType;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -21,16 +26,19 @@ class JpaRepositoryTest {
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
+    private final HashtagRepository hashtagRepository;
 
     // 생성자 주입 방법
     public JpaRepositoryTest(
             @Autowired ArticleRepository articleRepository,
             @Autowired ArticleCommentRepository articleCommentRepository,
-            @Autowired UserAccountRepository userAccountRepository
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired HashtagRepository hashtagRepository
     ) {
         this.articleRepository = articleRepository;
         this.articleCommentRepository = articleCommentRepository;
         this.userAccountRepository = userAccountRepository;
+        this.hashtagRepository = hashtagRepository;
     }
 
     @DisplayName("select 테스트")
@@ -98,4 +106,66 @@ class JpaRepositoryTest {
         assertThat(articleCommentRepository.count())
                 .isEqualTo(previousArticleCommentCount - deletedCommentsSize);
     }
-}
\ No newline at end of file
+
+    @DisplayName("해시태그로 게시글 ID select 테스트 (네이티브 쿼리)")
+    @Test
+    void givenArticlesWithHashtags_whenSelectingArticleIdsByHashtags_thenReturnsIdsHavingAllHashtags() {
+        // Given
+        UserAccount userAccount = userAccountRepository.getReferenceById("uno");
+        Hashtag java = hashtagRepository.save(Hashtag.of("jpatestjava"));
+        Hashtag spring = hashtagRepository.save(Hashtag.of("jpatestspring"));
+        Article older = Article.of(userAccount, "older", "content", "#jpatestjava #jpatestspring");
+        older.replaceHashtags(List.of(java, spring));
+        Article javaOnly = Article.of(userAccount, "java only", "content", "#jpatestjava");
+        javaOnly.replaceHashtags(List.of(java));
+        Article newer = Article.of(userAccount, "newer", "content", "#jpatestjava #jpatestspring");
+        newer.replaceHashtags(List.of(java, spring));
+        articleRepository.saveAllAndFlush(List.of(older, javaOnly, newer));
+
+        // When
+        Slice<Number> articleIds = hashtagRepository.findArticleIdsByHashtagIds(List.of(java.getId(), spring.getId()), 2, PageRequest.of(0, 10));
+
+        // Then
+        assertThat(articleIds.map(Number::longValue).getContent())
+                .containsExactly(newer.getId(), older.getId());
+        assertThat(articleIds.hasNext()).isFalse();
+    }
+
+    @DisplayName("조건에 맞는 게시글을 ID 순으로 limit 만큼 select 테스트")
+    @Test
+    void givenPredicate_whenSelectingFirstArticlesById_thenReturnsLimitedArticlesInIdOrder() {
+        // Given
+        UserAccount userAccount = userAccountRepository.getReferenceById("uno");
+        List<Article> saved = articleRepository.saveAllAndFlush(List.of(
+                Article.of(userAccount, "jpatest-chunk", "content", null),
+                Article.of(userAccount, "jpatest-chunk", "content", null),
+                Article.of(userAccount, "jpatest-chunk", "content", null)
+        ));
+
+        // When
+        List<Article> articles = articleRepository.findFirstById(QArticle.article.title.eq("jpatest-chunk"), 2);
+
+        // Then
+        assertThat(articles)
+                .extracting(Article::getId)
+                .containsExactly(saved.get(0).getId(), saved.get(1).getId());
+    }
+
+    @DisplayName("ID 목록 중 모든 단어를 포함하는 게시글 ID select 테스트")
+    @Test
+    void givenCandidateIds_whenSelectingIdsContainingAllWords_thenReturnsOnlyMatchingIds() {
+        // Given
+        UserAccount userAccount = userAccountRepository.getReferenceById("uno");
+        List<Article> saved = articleRepository.saveAllAndFlush(List.of(
+                Article.of(userAccount, "Spring 게시판 만들기", "content", null),
+                Article.of(userAccount, "게시글 시판", "content", null)
+        ));
+        List<Long> ids = saved.stream().map(Article::getId).toList();
+
+        // When
+        List<Long> actual = articleRepository.findIdsContainingAll(ids, SearchType.TITLE, List.of("게시판", "spring"));
+
+        // Then
+        assertThat(actual).containsExactly(saved.get(0).getId());
+    }
+}
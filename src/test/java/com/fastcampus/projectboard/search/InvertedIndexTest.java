@@ -0,0 +1,103 @@
+package com.fastcampus.projectboard.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("검색 - 역색인")
+class InvertedIndexTest {
+    private final InvertedIndex sut = new InvertedIndex();
+
+    @DisplayName("검색어를 주면, 모든 검색어를 포함한 문서를 점수 순으로 반환한다.")
+    @Test
+    void givenTerms_whenSearching_thenReturnsMatchingDocumentsByScore() {
+        // Given
+        sut.put(1L, List.of("spring", "boot"));
+        sut.put(2L, List.of("spring", "spring", "boot"));
+        sut.put(3L, List.of("spring"));
+
+        // When
+        Page<Long> actual = sut.search(List.of("spring", "boot"), Pageable.ofSize(10));
+
+        // Then
+        assertThat(actual.getContent()).containsExactly(2L, 1L);
+        assertThat(actual.getTotalElements()).isEqualTo(2);
+    }
+
+    @DisplayName("점수가 같으면, 최신 문서(ID 내림차순)를 먼저 반환한다.")
+    @Test
+    void givenSameScore_whenSearching_thenReturnsNewestFirst() {
+        // Given
+        sut.put(1L, List.of("java"));
+        sut.put(2L, List.of("java"));
+        sut.put(3L, List.of("java"));
+
+        // When
+        Page<Long> actual = sut.search(List.of("java"), Pageable.ofSize(2));
+
+        // Then
+        assertThat(actual.getContent()).containsExactly(3L, 2L);
+        assertThat(actual.getTotalElements()).isEqualTo(3);
+        assertThat(actual.getTotalPages()).isEqualTo(2);
+    }
+
+    @DisplayName("문서를 다시 색인하거나 삭제하면, 이전 term 으로는 검색되지 않는다.")
+    @Test
+    void givenReindexedAndRemovedDocuments_whenSearching_thenReturnsOnlyCurrentTerms() {
+        // Given
+        sut.put(1L, List.of("old"));
+        sut.put(2L, List.of("old"));
+        sut.put(1L, List.of("new"));
+        sut.remove(2L);
+
+        // When
+        Page<Long> oldTerm = sut.search(List.of("old"), Pageable.ofSize(10));
+        Page<Long> newTerm = sut.search(List.of("new"), Pageable.ofSize(10));
+
+        // Then
+        assertThat(oldTerm).isEmpty();
+        assertThat(newTerm.getContent()).containsExactly(1L);
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @DisplayName("후보 확인 함수를 주면, 모든 term 을 포함해도 확인되지 않은 문서는 제외한다.")
+    @Test
+    void givenVerifier_whenSearching_thenExcludesUnverifiedCandidates() {
+        // Given - "게시판" 의 n-gram(게시, 시판)이 떨어진 위치에만 있는 문서(2L)
+        sut.put(1L, List.of("게시", "시판"));
+        sut.put(2L, List.of("게시", "시판"));
+
+        // When
+        Page<Long> actual = sut.search(List.of("게시", "시판"), candidates -> candidates.stream().filter(id -> id == 1L).toList(), Pageable.ofSize(10));
+
+        // Then
+        assertThat(actual.getContent()).containsExactly(1L);
+        assertThat(actual.getTotalElements()).isEqualTo(1);
+    }
+
+    @DisplayName("문서가 많고 빈도가 커도, 교집합과 점수를 정확히 계산한다.")
+    @Test
+    void givenManyDocuments_whenSearching_thenIntersectsCompressedPostings() {
+        // Given - 번호 간격과 빈도가 여러 byte 로 기록되는 경우
+        for (long id = 1; id <= 1_000; id++) {
+            sut.put(id, id % 200 == 0 ? List.of("common", "rare") : List.of("common"));
+        }
+        sut.put(500L, Collections.nCopies(300, "rare")); // 다시 색인하면 새 번호로 바뀌고 이전 항목은 건너뛴다
+        sut.remove(1_000L);
+
+        // When
+        Page<Long> actual = sut.search(List.of("common", "rare"), Pageable.ofSize(10));
+        Page<Long> reindexed = sut.search(List.of("rare"), Pageable.ofSize(10));
+
+        // Then
+        assertThat(actual.getContent()).containsExactly(800L, 600L, 400L, 200L);
+        assertThat(reindexed.getContent()).containsExactly(500L, 800L, 600L, 400L, 200L);
+        assertThat(sut.size()).isEqualTo(999);
+    }
+}
@@ -0,0 +1,68 @@
+package com.fastcampus.projectboard.search.analysis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("검색 - 분석기")
+class AnalyzerTest {
+    private final Analyzer sut = Analyzer.of(
+            new TextNormalizer(),
+            new WordTokenizer(),
+            List.of(
+                    new StopWordFilter(Set.of("및")),
+                    new NGramFilter(2, 3)
+            )
+    );
+
+    @DisplayName("한글 어절을 주면, 글자 단위 2-gram, 3-gram 으로 분석한다.")
+    @Test
+    void givenKoreanWord_whenAnalyzing_thenReturnsCharacterNGrams() {
+        // Given
+        String text = "게시글이";
+
+        // When
+        List<String> actual = sut.analyze(text);
+
+        // Then
+        assertThat(actual).containsExactly("게시", "시글", "글이", "게시글", "시글이");
+    }
+
+    @DisplayName("부분 단어 검색어의 n-gram 은, 원문 n-gram 에 모두 포함된다.")
+    @Test
+    void givenPartialWord_whenAnalyzing_thenTermsAreSubsetOfDocumentTerms() {
+        // Given
+        List<String> document = sut.analyze("새 게시글이 등록되었습니다");
+
+        // When
+        List<String> query = sut.analyze("게시글");
+
+        // Then
+        assertThat(document).containsAll(query);
+    }
+
+    @DisplayName("대소문자/전각 문자와 불용어가 섞인 텍스트를 주면, 정규화하고 불용어를 제거한다.")
+    @Test
+    void givenMixedText_whenAnalyzing_thenNormalizesAndRemovesStopWords() {
+        // Given
+        String text = "ＪＡＶＡ 및 Go!";
+
+        // When
+        List<String> actual = sut.analyze(text);
+
+        // Then
+        assertThat(actual).containsExactly("ja", "av", "va", "jav", "ava", "go");
+    }
+
+    @DisplayName("빈 텍스트를 주면, 빈 리스트를 반환한다.")
+    @Test
+    void givenBlankText_whenAnalyzing_thenReturnsEmptyList() {
+        // When & Then
+        assertThat(sut.analyze(null)).isEmpty();
+        assertThat(sut.analyze("  ")).isEmpty();
+    }
+}
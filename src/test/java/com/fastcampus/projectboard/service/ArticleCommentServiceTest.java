@@ -4,21 +4,28 @@ import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.ArticleComment;
 import com.fastcampus.projectboard.domain.UserAccount;
 import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.CursorSlice;
+import com.fastcampus.projectboard.dto.KeysetCursor;
 import com.fastcampus.projectboard.dto.UserAccountDto;
 import com.fastcampus.projectboard.repository.ArticleCommentRepository;
 import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.repository.UserAccountRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
 
@@ -28,6 +35,7 @@ class ArticleCommentServiceTest {
     @InjectMocks private ArticleCommentService sut;
     @Mock private ArticleRepository articleRepository;
     @Mock private ArticleCommentRepository articleCommentRepository;
+    @Mock private UserAccountRepository userAccountRepository;
 
     @DisplayName("게시글 ID로 조회하면, 해당하는 댓글 리스트를 반환한다.")
     @Test
@@ -47,6 +55,44 @@ class ArticleCommentServiceTest {
         then(articleCommentRepository).should().findByArticle_Id(articleId);
     }
 
+    @DisplayName("게시글 ID와 창 크기로 조회하면, 첫 창의 댓글과 다음 커서를 반환한다.")
+    @Test
+    void givenArticleIdAndSize_whenSearchingArticleComments_thenReturnsFirstWindowWithNextCursor() {
+        // Given
+        Long articleId = 1L;
+        LocalDateTime now = LocalDateTime.of(2022, 1, 1, 0, 0);
+        ArticleComment newest = createArticleComment(3L, now);
+        ArticleComment middle = createArticleComment(2L, now.minusMinutes(1));
+        ArticleComment oldest = createArticleComment(1L, now.minusMinutes(2));
+        given(articleCommentRepository.findByArticleIdAndKeyset(articleId, null, null, 3)).willReturn(List.of(newest, middle, oldest));
+
+        // When
+        CursorSlice<ArticleCommentDto> actual = sut.searchArticleComments(articleId, null, 2);
+
+        // Then
+        assertThat(actual.content()).extracting(ArticleCommentDto::id).containsExactly(3L, 2L);
+        assertThat(actual.nextCursor()).isEqualTo(KeysetCursor.of(middle.getCreatedAt(), 2L).encode());
+        then(articleCommentRepository).should().findByArticleIdAndKeyset(articleId, null, null, 3);
+    }
+
+    @DisplayName("커서로 댓글을 조회하면, 커서 다음 창을 반환하고 마지막 창이면 다음 커서가 없다.")
+    @Test
+    void givenCursor_whenSearchingArticleComments_thenReturnsNextWindowWithoutNextCursor() {
+        // Given
+        Long articleId = 1L;
+        LocalDateTime now = LocalDateTime.of(2022, 1, 1, 0, 0);
+        KeysetCursor cursor = KeysetCursor.of(now, 3L);
+        ArticleComment oldest = createArticleComment(1L, now.minusMinutes(2));
+        given(articleCommentRepository.findByArticleIdAndKeyset(articleId, cursor.createdAt(), cursor.id(), 3)).willReturn(List.of(oldest));
+
+        // When
+        CursorSlice<ArticleCommentDto> actual = sut.searchArticleComments(articleId, cursor.encode(), 2);
+
+        // Then
+        assertThat(actual.content()).extracting(ArticleCommentDto::id).containsExactly(1L);
+        assertThat(actual.hasNext()).isFalse();
+    }
+
     @DisplayName("댓글 정보를 입력하면, 댓글을 저장한다.")
     @Test
     void givenArticleCommentInfo_whenSavingArticleComment_thenSavesArticleComment() {
@@ -63,6 +109,29 @@ class ArticleCommentServiceTest {
         then(articleCommentRepository).should().save(any(ArticleComment.class));
     }
 
+    @DisplayName("댓글 여러 건을 입력하면, 게시글이 있는 댓글만 한 번에 저장한다.")
+    @Test
+    void givenArticleCommentInfos_whenSavingArticleComments_thenSavesCommentsOfExistingArticlesAtOnce() {
+        // Given
+        List<ArticleCommentDto> dtos = List.of(
+                createArticleCommentDto("댓글1"),
+                createArticleCommentDto("댓글2"),
+                ArticleCommentDto.of(null, 2L, createUserAccountDto(), "없는 게시글의 댓글", null, null, null, null)
+        );
+        given(articleRepository.findExistingIds(Set.of(1L, 2L))).willReturn(Set.of(1L));
+        given(articleRepository.getReferenceById(1L)).willReturn(createArticle());
+        given(userAccountRepository.getReferenceById("uno")).willReturn(createUserAccount());
+        given(articleCommentRepository.saveAll(ArgumentMatchers.<ArticleComment>anyList())).willAnswer(returnsFirstArg());
+
+        // When
+        int saved = sut.saveArticleComments(dtos);
+
+        // Then
+        assertThat(saved).isEqualTo(2);
+        then(articleRepository).should(never()).getReferenceById(2L);
+        then(articleCommentRepository).should().saveAll(ArgumentMatchers.<ArticleComment>anyList());
+    }
+
     @DisplayName("댓글 저장을 시도했는데 맞는 게시글이 없으면, 경고 로그를 찍고 아무것도 안 한다.")
     @Test
     void givenNonexistentArticle_whenSavingArticleComment_thenLogsSituationAndDoesNothing() {
@@ -126,7 +195,6 @@ class ArticleCommentServiceTest {
         then(articleCommentRepository).should().deleteById(articleCommentId);
     }
 
-
     private ArticleCommentDto createArticleCommentDto(String content) {
         return ArticleCommentDto.of(
                 1L,
@@ -162,6 +230,14 @@ class ArticleCommentServiceTest {
         );
     }
 
+    private ArticleComment createArticleComment(Long id, LocalDateTime createdAt) {
+        ArticleComment articleComment = createArticleComment("content");
+        ReflectionTestUtils.setField(articleComment, "id", id);
+        ReflectionTestUtils.setField(articleComment, "createdAt", createdAt);
+
+        return articleComment;
+    }
+
     private UserAccount createUserAccount() {
         return UserAccount.of(
                 "uno",
@@ -0,0 +1,159 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.UserAccountDto;
+import com.fastcampus.projectboard.event.ArticleEvent;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 게시글 건수")
+@ExtendWith(MockitoExtension.class)
+class ArticleCountServiceTest {
+    @InjectMocks private ArticleCountService sut;
+    @Mock private ArticleRepository articleRepository;
+    @Mock private HashtagCatalogService hashtagCatalogService;
+
+    @DisplayName("기동 시 건수를 불러오면, 전체 건수를 DB 값으로 초기화한다.")
+    @Test
+    void givenDatabaseCount_whenReloading_thenInitializesTotalCount() {
+        // Given
+        given(articleRepository.count()).willReturn(10L);
+
+        // When
+        sut.reload();
+
+        // Then
+        assertThat(sut.countArticles()).isEqualTo(10L);
+    }
+
+    @DisplayName("게시글 생성/삭제 이벤트를 받으면, 전체 건수를 갱신한다.")
+    @Test
+    void givenArticleEvents_whenHandling_thenUpdatesTotalCount() {
+        // Given
+
+        // When
+        sut.on(ArticleEvent.of(ArticleEvent.Type.CREATED, 1L, null, null));
+        sut.on(ArticleEvent.of(ArticleEvent.Type.CREATED, 2L, null, null));
+        sut.on(ArticleEvent.of(ArticleEvent.Type.DELETED, 1L, null, null));
+
+        // Then
+        assertThat(sut.countArticles()).isEqualTo(1L);
+    }
+
+    @DisplayName("게시글 생성/삭제 이벤트를 받으면, 작성자별 건수를 갱신한다.")
+    @Test
+    void givenArticleEvents_whenHandling_thenUpdatesAuthorCounts() {
+        // Given
+        ArticleDto unoArticle = createArticleDto("uno");
+        ArticleDto unoSecondArticle = createArticleDto("uno");
+        ArticleDto uno2Article = createArticleDto("uno2");
+
+        // When
+        sut.on(ArticleEvent.of(ArticleEvent.Type.CREATED, 1L, null, unoArticle));
+        sut.on(ArticleEvent.of(ArticleEvent.Type.CREATED, 2L, null, unoSecondArticle));
+        sut.on(ArticleEvent.of(ArticleEvent.Type.CREATED, 3L, null, uno2Article));
+        sut.on(ArticleEvent.of(ArticleEvent.Type.DELETED, 3L, uno2Article, null));
+
+        // Then
+        assertThat(sut.countArticlesByAuthor("uno")).isEqualTo(2L);
+        assertThat(sut.countArticlesByAuthor("uno2")).isZero();
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("DB 와 대조하면, 어긋난 전체/작성자별 건수를 바로잡는다.")
+    @Test
+    void givenDrift_whenReconciling_thenCorrectsCounts() {
+        // Given
+        sut.on(ArticleEvent.of(ArticleEvent.Type.CREATED, 1L, null, createArticleDto("stale")));
+        given(articleRepository.count()).willReturn(3L);
+        given(articleRepository.countArticlesByUserId()).willReturn(Map.of("uno", 3L));
+
+        // When
+        sut.reconcile();
+
+        // Then
+        assertThat(sut.countArticles()).isEqualTo(3L);
+        assertThat(sut.countArticlesByAuthor("uno")).isEqualTo(3L);
+        assertThat(sut.countArticlesByAuthor("stale")).isZero();
+    }
+
+    @DisplayName("DB 와 대조하는 도중 게시글 이벤트가 들어오면, DB 값에 그 증감을 더해 반영한다.")
+    @Test
+    void givenEventDuringReconcile_whenReconciling_thenKeepsEvent() {
+        // Given - DB 조회 이후 커밋된 게시글이라 조회 결과에는 없다
+        given(articleRepository.count()).willAnswer(invocation -> {
+            sut.on(ArticleEvent.of(ArticleEvent.Type.CREATED, 4L, null, createArticleDto("uno2")));
+            return 3L;
+        });
+        given(articleRepository.countArticlesByUserId()).willAnswer(invocation -> {
+            sut.on(ArticleEvent.of(ArticleEvent.Type.CREATED, 5L, null, createArticleDto("uno")));
+            return Map.of("uno", 3L);
+        });
+
+        // When
+        sut.reconcile();
+
+        // Then
+        assertThat(sut.countArticles()).isEqualTo(5L);
+        assertThat(sut.countArticlesByAuthor("uno")).isEqualTo(4L);
+        assertThat(sut.countArticlesByAuthor("uno2")).isEqualTo(1L);
+    }
+
+    @DisplayName("여러 해시태그 건수를 물으면, 가장 적게 쓰인 해시태그의 건수를 추정치로 반환한다.")
+    @Test
+    void givenHashtagNames_whenCounting_thenReturnsSmallestUsage() {
+        // Given
+        given(hashtagCatalogService.countArticles("java")).willReturn(3L);
+        given(hashtagCatalogService.countArticles("spring")).willReturn(5L);
+
+        // When
+        long actual = sut.countArticlesByHashtags(Set.of("java", "spring"));
+
+        // Then
+        assertThat(actual).isEqualTo(3L);
+    }
+
+    @DisplayName("같은 키워드 검색 건수를 다시 물으면, count 쿼리 없이 캐시된 값을 반환한다.")
+    @Test
+    void givenCachedKeywordCount_whenEstimating_thenDoesNotCountAgain() {
+        // Given
+        AtomicInteger queries = new AtomicInteger();
+
+        // When
+        long first = sut.estimateArticlesByKeyword(SearchType.ID, "uno", () -> { queries.incrementAndGet(); return 5L; });
+        long second = sut.estimateArticlesByKeyword(SearchType.ID, "uno", () -> { queries.incrementAndGet(); return 6L; });
+
+        // Then
+        assertThat(first).isEqualTo(5L);
+        assertThat(second).isEqualTo(5L);
+        assertThat(queries).hasValue(1);
+    }
+
+    private ArticleDto createArticleDto(String userId) {
+        return ArticleDto.of(
+                null,
+                UserAccountDto.of(userId, "pw", null, null, null, LocalDateTime.now(), userId, LocalDateTime.now(), userId),
+                "title",
+                "content",
+                null,
+                LocalDateTime.now(),
+                userId,
+                LocalDateTime.now(),
+                userId
+        );
+    }
+}
@@ -0,0 +1,103 @@
+package com.fastcampus.projectboard.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.dto.ArticleCommentExportDto;
+import com.fastcampus.projectboard.repository.ArticleCommentRepository;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 내보내기")
+@ExtendWith(MockitoExtension.class)
+class ArticleExportServiceTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private ArticleExportService sut;
+    @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCommentRepository articleCommentRepository;
+    @Mock private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleExportService(articleRepository, articleCommentRepository, entityManager, objectMapper);
+    }
+
+    @DisplayName("내보내면, 게시글마다 한 줄씩 그 게시글의 댓글을 붙여서 쓴다.")
+    @Test
+    void givenArticlesAndComments_whenExporting_thenWritesOneLinePerArticleWithItsComments() throws Exception {
+        // Given
+        given(articleRepository.streamAllByOrderById()).willReturn(Stream.of(createArticle(1L), createArticle(2L), createArticle(3L)));
+        given(articleCommentRepository.streamAllForExport()).willReturn(Stream.of(
+                createArticleComment(1L, 1L),
+                createArticleComment(2L, 1L),
+                createArticleComment(3L, 3L)
+        ));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long exported = sut.exportArticles(out);
+
+        // Then
+        assertThat(exported).isEqualTo(3);
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(3);
+        List<JsonNode> articles = new ArrayList<>();
+        for (String line : lines) { articles.add(objectMapper.readTree(line)); }
+        assertThat(articles)
+                .extracting(json -> json.get("id").asLong(), json -> json.get("comments").size())
+                .containsExactly(tuple(1L, 2), tuple(2L, 0), tuple(3L, 1));
+        assertThat(articles.get(0).get("userId").asText()).isEqualTo("uno");
+        assertThat(articles.get(0).get("comments").get(0).get("content").asText()).isEqualTo("comment1");
+    }
+
+    @DisplayName("게시글이 없으면, 아무것도 쓰지 않는다.")
+    @Test
+    void givenNoArticles_whenExporting_thenWritesNothing() throws Exception {
+        // Given
+        given(articleRepository.streamAllByOrderById()).willReturn(Stream.empty());
+        given(articleCommentRepository.streamAllForExport()).willReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long exported = sut.exportArticles(out);
+
+        // Then
+        assertThat(exported).isZero();
+        assertThat(out.size()).isZero();
+    }
+
+    private Article createArticle(Long id) {
+        Article article = Article.of(
+                UserAccount.of("uno", "password", "uno@email.com", "Uno", null),
+                "title" + id,
+                "content" + id,
+                "#java"
+        );
+        ReflectionTestUtils.setField(article, "id", id);
+
+        return article;
+    }
+
+    private ArticleCommentExportDto createArticleComment(Long id, Long articleId) {
+        return ArticleCommentExportDto.of(id, articleId, "uno", "Uno", "comment" + id, LocalDateTime.now(), "uno", LocalDateTime.now(), "uno");
+    }
+}
@@ -0,0 +1,111 @@
+package com.fastcampus.projectboard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fastcampus.projectboard.config.ImportConfig.ImportProperties;
+import com.fastcampus.projectboard.domain.constant.ImportFormat;
+import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.response.ImportReport;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.repository.UserAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 대량 가져오기")
+@ExtendWith(MockitoExtension.class)
+class ArticleImportServiceTest {
+    private ArticleImportService sut;
+    @Mock private ArticleService articleService;
+    @Mock private ArticleCommentService articleCommentService;
+    @Mock private ArticleRepository articleRepository;
+    @Mock private UserAccountRepository userAccountRepository;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleImportService(
+                articleService,
+                articleCommentService,
+                articleRepository,
+                userAccountRepository,
+                new ObjectMapper(),
+                new ImportProperties(2, 100, 10, null, null, null) // 2행씩 청크
+        );
+    }
+
+    @DisplayName("JSONL 게시글을 가져오면, 청크 단위로 저장하고 잘못된 행은 줄 번호와 함께 보고한다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenJsonLines_whenImportingArticles_thenSavesChunksAndReportsRowErrors() {
+        // Given
+        String input = """
+                {"userId": "uno", "title": "title1", "content": "content1", "hashtag": "#java"}
+                {"userId": "uno", "title": "title2", "content": "content2"}
+                {"userId": "uno", "title":
+                {"userId": "nobody", "title": "title4", "content": "content4"}
+
+                {"userId": "uno", "title": "", "content": "content6"}
+                {"userId": "uno", "title": "title7", "content": "content7"}
+                """;
+        given(userAccountRepository.findExistingUserIds(anyCollection())).willReturn(Set.of("uno"));
+
+        // When
+        ImportReport report = sut.importArticles(new StringReader(input), ImportFormat.JSONL);
+
+        // Then
+        assertThat(report.imported()).isEqualTo(3);
+        assertThat(report.failed()).isEqualTo(3);
+        assertThat(report.errors())
+                .extracting(ImportReport.RowError::line)
+                .containsExactlyInAnyOrder(3L, 4L, 6L);
+        ArgumentCaptor<List<ArticleDto>> captor = ArgumentCaptor.forClass(List.class);
+        then(articleService).should(times(3)).saveArticles(captor.capture());
+        assertThat(captor.getAllValues())
+                .flatExtracting(dtos -> dtos.stream().map(ArticleDto::title).toList())
+                .containsExactly("title1", "title2", "title7");
+        then(userAccountRepository).should(times(2)).findExistingUserIds(anyCollection()); // 이미 확인한 작성자는 다시 조회하지 않는다
+    }
+
+    @DisplayName("CSV 댓글을 가져오면, 여러 줄 값도 한 행으로 읽고 없는 게시글의 댓글은 건너뛴다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenCsv_whenImportingArticleComments_thenSavesCommentsOfExistingArticles() {
+        // Given
+        String input = """
+                articleId,userId,content
+                1,uno,"첫 줄
+                둘째 줄"
+                2,uno,없는 게시글의 댓글
+                abc,uno,잘못된 게시글 ID
+                """;
+        given(userAccountRepository.findExistingUserIds(anyCollection())).willReturn(Set.of("uno"));
+        given(articleRepository.findExistingIds(anyCollection())).willReturn(Set.of(1L));
+
+        // When
+        ImportReport report = sut.importArticleComments(new StringReader(input), ImportFormat.CSV);
+
+        // Then
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.failed()).isEqualTo(2);
+        assertThat(report.errors()) // 헤더 1줄, 두 줄짜리 첫 레코드(2~3줄) 다음이므로 실패한 레코드는 4, 5줄
+                .extracting(ImportReport.RowError::line)
+                .containsExactlyInAnyOrder(4L, 5L);
+        ArgumentCaptor<List<ArticleCommentDto>> captor = ArgumentCaptor.forClass(List.class);
+        then(articleCommentService).should(atLeastOnce()).saveArticleComments(captor.capture());
+        assertThat(captor.getAllValues())
+                .flatExtracting(dtos -> dtos.stream().map(ArticleCommentDto::content).toList())
+                .containsExactly("첫 줄\n둘째 줄");
+    }
+}
@@ -1,30 +1,50 @@
 package com.fastcampus.projectboard.service;
 
 import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.Hashtag;
+import com.fastcampus.projectboard.domain.QArticle;
 import com.fastcampus.projectboard.domain.UserAccount;
 import com.fastcampus.projectboard.domain.constant.SearchType;
 import com.fastcampus.projectboard.dto.ArticleDto;
-import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.dto.CursorSlice;
+import com.fastcampus.projectboard.dto.KeysetCursor;
 import com.fastcampus.projectboard.dto.UserAccountDto;
+import com.fastcampus.projectboard.event.ArticleEvent;
+import com.fastcampus.projectboard.repository.ArticleCommentRepository;
 import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.repository.HashtagRepository;
 import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.search.ArticleSearchIndex;
+import com.querydsl.core.types.Predicate;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.persistence.EntityNotFoundException;
+import java.math.BigInteger;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.*;
 
 @DisplayName("비즈니스 로직 - 게시글")
@@ -32,21 +52,48 @@ import static org.mockito.BDDMockito.*;
 class ArticleServiceTest {
     @InjectMocks private ArticleService sut;
     @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCommentRepository articleCommentRepository;
     @Mock private UserAccountRepository userAccountRepository;
+    @Mock private HashtagRepository hashtagRepository;
+    @Mock private HashtagService hashtagService;
+    @Mock private HashtagCatalogService hashtagCatalogService;
+    @Mock private ArticleSearchIndex articleSearchIndex;
+    @Mock private ArticleCountService articleCountService;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Spy private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @DisplayName("검색어 없이 게시글을 검색하면, 게시글 페이지를 반환한다.")
     @Test
     void givenNoSearchParameters_whenSearchingArticles_thenReturnsArticlePage() {
         // Given
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findAll(pageable)).willReturn(Page.empty());
+        given(articleRepository.findSummaries(null, null, pageable)).willReturn(new SliceImpl<>(List.of(), pageable, false));
 
         // When
-        Page<ArticleDto> articles = sut.searchArticles(null, null, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticles(null, null, pageable);
 
         // Then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findAll(pageable);
+        assertThat(articles.getTotalElements()).isZero();
+        then(articleRepository).should().findSummaries(null, null, pageable);
+        then(articleCountService).shouldHaveNoInteractions(); // 마지막 창이면 건수 추정 불필요
+    }
+
+    @DisplayName("검색어 없이 게시글을 검색하면, count 쿼리 없이 유지 중인 전체 건수로 페이지를 만든다.")
+    @Test
+    void givenNoSearchParameters_whenSearchingArticles_thenUsesMaintainedTotalCount() {
+        // Given
+        Pageable pageable = Pageable.ofSize(1);
+        given(articleRepository.findSummaries(null, null, pageable)).willReturn(new SliceImpl<>(List.of(createArticleSummary(1L)), pageable, true));
+        given(articleCountService.countArticles()).willReturn(123L);
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(null, null, pageable);
+
+        // Then
+        assertThat(articles.getTotalElements()).isEqualTo(123L);
+        assertThat(articles.getTotalPages()).isEqualTo(123);
+        then(articleRepository).should(never()).count();
     }
 
     @DisplayName("검색어와 함께 게시글을 검색하면, 게시글 페이지를 반환한다.")
@@ -56,14 +103,82 @@ class ArticleServiceTest {
         SearchType searchType = SearchType.TITLE;
         String searchKeyword = "title";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByTitleContaining(searchKeyword, pageable)).willReturn(Page.empty());
+        given(articleSearchIndex.supports(searchType, searchKeyword)).willReturn(true);
+        given(articleSearchIndex.search(searchType, searchKeyword, pageable)).willReturn(Page.empty(pageable));
 
         // When
-        Page<ArticleDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
 
         // Then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findByTitleContaining(searchKeyword, pageable);
+        then(articleSearchIndex).should().search(searchType, searchKeyword, pageable);
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("검색어와 함께 게시글을 검색하면, 색인이 찾은 랭킹 순서대로 게시글 페이지를 반환한다.")
+    @Test
+    void givenSearchParameters_whenSearchingArticlesViaIndex_thenReturnsArticlePageInRankedOrder() {
+        // Given
+        SearchType searchType = SearchType.CONTENT;
+        String searchKeyword = "content";
+        Pageable pageable = Pageable.ofSize(20);
+        ArticleSummaryDto first = createArticleSummary(2L);
+        ArticleSummaryDto second = createArticleSummary(1L);
+        given(articleSearchIndex.supports(searchType, searchKeyword)).willReturn(true);
+        given(articleSearchIndex.search(searchType, searchKeyword, pageable))
+                .willReturn(new PageImpl<>(List.of(2L, 1L), pageable, 2));
+        given(articleRepository.findSummariesByIds(List.of(2L, 1L))).willReturn(List.of(second, first));
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles.getTotalElements()).isEqualTo(2);
+        assertThat(articles.getContent())
+                .extracting(ArticleSummaryDto::id)
+                .containsExactly(2L, 1L);
+        then(articleRepository).should().findSummariesByIds(List.of(2L, 1L));
+    }
+
+    @DisplayName("게시글을 검색하면, 검색 종류와 처리 방식별로 검색 시간과 결과 건수를 기록한다.")
+    @Test
+    void givenSearchParameters_whenSearchingArticles_thenRecordsSearchMetricsBySearchTypeAndMode() {
+        // Given
+        SearchType searchType = SearchType.CONTENT;
+        String searchKeyword = "content";
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleSearchIndex.supports(searchType, searchKeyword)).willReturn(true);
+        given(articleSearchIndex.search(searchType, searchKeyword, pageable))
+                .willReturn(new PageImpl<>(List.of(2L, 1L), pageable, 2));
+        given(articleRepository.findSummariesByIds(List.of(2L, 1L))).willReturn(List.of(createArticleSummary(1L), createArticleSummary(2L)));
+
+        // When
+        sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(meterRegistry.get(ArticleService.SEARCH_TIMER).tag("searchType", "CONTENT").tag("mode", "index").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(ArticleService.SEARCH_RESULTS_SUMMARY).tag("searchType", "CONTENT").tag("mode", "index").summary().totalAmount())
+                .isEqualTo(2);
+    }
+
+    @DisplayName("색인으로 처리할 수 없는 검색어로 검색하면, 부분 일치 검색으로 게시글 페이지를 반환한다.")
+    @Test
+    void givenUnindexableSearchKeyword_whenSearchingArticles_thenFallsBackToContainingSearch() {
+        // Given
+        SearchType searchType = SearchType.NICKNAME;
+        String searchKeyword = "u";
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleSearchIndex.supports(searchType, searchKeyword)).willReturn(false);
+        given(articleRepository.findSummaries(searchType, searchKeyword, pageable)).willReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleSearchIndex).should(never()).search(any(), any(), any());
+        then(articleRepository).should().findSummaries(searchType, searchKeyword, pageable);
     }
 
     @DisplayName("검색어 없이 게시글을 해시태그 검색하면, 빈 페이지를 반환한다.")
@@ -73,7 +188,7 @@ class ArticleServiceTest {
         Pageable pageable = Pageable.ofSize(20);
 
         // When
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(null, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticlesViaHashtag(null, pageable);
 
         // Then
         assertThat(articles).isEqualTo(Page.empty(pageable));
@@ -86,50 +201,77 @@ class ArticleServiceTest {
         // Given
         String hashtag = "#java";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByHashtag(hashtag, pageable)).willReturn(Page.empty(pageable));
+        ArticleSummaryDto article = createArticleSummary(1L);
+        given(hashtagService.parseHashtagNames(hashtag)).willReturn(Set.of("java"));
+        given(hashtagService.findHashtagIds(Set.of("java"))).willReturn(List.of(10L));
+        given(hashtagRepository.findArticleIdsByHashtagIds(List.of(10L), 1L, PageRequest.of(0, 20)))
+                .willReturn(new SliceImpl<>(List.of(BigInteger.valueOf(article.id())), PageRequest.of(0, 20), false)); // 네이티브 쿼리는 BigInteger 로 돌려준다
+        given(articleRepository.findSummariesByIds(List.of(article.id()))).willReturn(List.of(article));
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticlesViaHashtag(hashtag, pageable);
+
+        // Then
+        assertThat(articles.getContent()).extracting(ArticleSummaryDto::id).containsExactly(article.id());
+        assertThat(articles.getTotalElements()).isEqualTo(1L);
+        then(hashtagRepository).should().findArticleIdsByHashtagIds(List.of(10L), 1L, PageRequest.of(0, 20));
+    }
+
+    @DisplayName("없는 해시태그로 검색하면, 빈 페이지를 반환한다.")
+    @Test
+    void givenNonexistentHashtag_whenSearchingArticlesViaHashing_thenReturnsEmptyPage() {
+        // Given
+        String hashtag = "#none";
+        Pageable pageable = Pageable.ofSize(20);
+        given(hashtagService.parseHashtagNames(hashtag)).willReturn(Set.of("none"));
+        given(hashtagService.findHashtagIds(Set.of("none"))).willReturn(List.of());
 
         // When
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtag, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticlesViaHashtag(hashtag, pageable);
 
         // Then
         assertThat(articles).isEqualTo(Page.empty(pageable));
-        then(articleRepository).should().findByHashtag(hashtag, pageable);
+        then(hashtagRepository).shouldHaveNoInteractions();
+        then(articleRepository).shouldHaveNoInteractions();
     }
 
-    @DisplayName("게시글 ID로 조회하면, 댓글 달긴 게시글을 반환한다.")
+    @DisplayName("커서 없이 키셋 조회하면, 첫 창과 다음 커서를 반환한다.")
     @Test
-    void givenArticleId_whenSearchingArticleWithComments_thenReturnsArticleWithComments() {
+    void givenNoCursor_whenSearchingArticlesByCursor_thenReturnsFirstWindowWithNextCursor() {
         // Given
-        Long articleId = 1L;
-        Article article = createArticle();
-        given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
+        LocalDateTime now = LocalDateTime.of(2022, 1, 1, 0, 0);
+        ArticleSummaryDto newest = createArticleSummary(3L, now);
+        ArticleSummaryDto middle = createArticleSummary(2L, now.minusDays(1));
+        ArticleSummaryDto oldest = createArticleSummary(1L, now.minusDays(2));
+        given(articleRepository.findByKeyset(Set.of(), null, null, false, 3)).willReturn(List.of(newest, middle, oldest));
 
         // When
-        ArticleWithCommentsDto dto = sut.getArticleWithComments(articleId);
+        CursorSlice<ArticleSummaryDto> articles = sut.searchArticlesByCursor(null, "", null, 2);
 
         // Then
-        assertThat(dto)
-                .hasFieldOrPropertyWithValue("title", article.getTitle())
-                .hasFieldOrPropertyWithValue("content", article.getContent())
-                .hasFieldOrPropertyWithValue("hashtag", article.getHashtag());
-        then(articleRepository).should().findById(articleId);
+        assertThat(articles.content()).extracting(ArticleSummaryDto::id).containsExactly(3L, 2L);
+        assertThat(articles.nextCursor()).isEqualTo(KeysetCursor.of(middle.createdAt(), 2L).encode());
+        assertThat(articles.previousCursor()).isNull();
     }
 
-    @DisplayName("댓글 달린 게시글이 없으면, 예외를 던진다.")
+    @DisplayName("이전 커서로 키셋 조회하면, 역방향으로 읽은 창을 최신순으로 돌려 반환한다.")
     @Test
-    void givenNonexistentArticleId_whenSearchingArticleWithComments_thenThrowsException() {
+    void givenBeforeCursor_whenSearchingArticlesByCursor_thenReturnsPreviousWindowInNewestFirstOrder() {
         // Given
-        Long articleId = 0L;
-        given(articleRepository.findById(articleId)).willReturn(Optional.empty());
+        LocalDateTime now = LocalDateTime.of(2022, 1, 1, 0, 0);
+        KeysetCursor cursor = KeysetCursor.of(now.minusDays(2), 1L);
+        ArticleSummaryDto middle = createArticleSummary(2L, now.minusDays(1));
+        ArticleSummaryDto newest = createArticleSummary(3L, now);
+        given(hashtagService.parseHashtagNames("#java")).willReturn(Set.of("java"));
+        given(articleRepository.findByKeyset(Set.of("java"), cursor.createdAt(), cursor.id(), true, 3)).willReturn(List.of(middle, newest));
 
         // When
-        Throwable t = catchThrowable(() -> sut.getArticleWithComments(articleId));
+        CursorSlice<ArticleSummaryDto> articles = sut.searchArticlesByCursor("#java", null, cursor.encode(), 2);
 
         // Then
-        assertThat(t)
-                .isInstanceOf(EntityNotFoundException.class)
-                .hasMessage("게시글이 없습니다 - articleId: " + articleId);
-        then(articleRepository).should().findById(articleId);
+        assertThat(articles.content()).extracting(ArticleSummaryDto::id).containsExactly(3L, 2L);
+        assertThat(articles.hasNext()).isTrue();
+        assertThat(articles.hasPrevious()).isFalse();
     }
 
     @DisplayName("게시글을 조회하면, 게시글을 반환한다.")
@@ -181,6 +323,31 @@ class ArticleServiceTest {
         // Then
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(articleRepository).should().save(any(Article.class));
+        then(eventPublisher).should().publishEvent(any(ArticleEvent.class));
+    }
+
+    @DisplayName("게시글 여러 건을 입력하면, 해시태그를 한 번에 찾고 게시글을 한 번에 저장한다.")
+    @Test
+    void givenArticleInfos_whenSavingArticles_thenSavesArticlesAtOnce() {
+        // Given
+        List<ArticleDto> dtos = List.of(
+                createArticleDto("title1", "content1", "#java"),
+                createArticleDto("title2", "content2", "#java #spring")
+        );
+        given(hashtagService.parseHashtagNames("#java")).willReturn(Set.of("java"));
+        given(hashtagService.parseHashtagNames("#java #spring")).willReturn(Set.of("java", "spring"));
+        given(hashtagService.findOrCreateHashtags(Set.of("java", "spring"))).willReturn(Set.of(Hashtag.of("java"), Hashtag.of("spring")));
+        given(userAccountRepository.getReferenceById("uno")).willReturn(createUserAccount());
+        given(articleRepository.saveAll(ArgumentMatchers.<Article>anyList())).willReturn(List.of(createArticle(1L), createArticle(2L)));
+
+        // When
+        sut.saveArticles(dtos);
+
+        // Then
+        then(hashtagService).should().findOrCreateHashtags(Set.of("java", "spring"));
+        then(articleRepository).should().saveAll(argThat((List<Article> articles) -> articles.size() == 2
+                && articles.get(1).getHashtags().size() == 2));
+        then(eventPublisher).should(times(2)).publishEvent(any(ArticleEvent.class));
     }
 
     @DisplayName("게시글의 수정 정보를 입력하면, 게시글을 수정한다.")
@@ -216,18 +383,112 @@ class ArticleServiceTest {
         then(articleRepository).should().getReferenceById(dto.id());
     }
 
-    @DisplayName("게시글의 ID를 입력하면, 게시글을 삭제한다")
+    @DisplayName("Data REST 로 새로 저장된 게시글이면, 해시태그를 연결하고 생성 이벤트를 발행한다")
+    @Test
+    void givenArticleCreatedViaDataRest_whenSyncing_thenLinksHashtagsAndPublishesCreatedEvent() {
+        // Given
+        Article article = createArticle();
+        given(articleRepository.findById(1L)).willReturn(Optional.of(article));
+        given(hashtagService.parseHashtagNames(article.getHashtag())).willReturn(Set.of("java"));
+        given(hashtagService.findOrCreateHashtags(Set.of("java"))).willReturn(Set.of(Hashtag.of("java")));
+
+        // When
+        sut.syncSavedArticle(1L, null);
+
+        // Then
+        assertThat(article.getHashtags()).extracting(Hashtag::getHashtagName).containsExactly("java");
+        then(eventPublisher).should().publishEvent(ArticleEvent.of(ArticleEvent.Type.CREATED, 1L, null, ArticleDto.from(article)));
+    }
+
+    @DisplayName("Data REST 로 수정된 게시글이면, 수정 전 게시글을 담아 수정 이벤트를 발행한다")
     @Test
-    void givenArticleId_whenDeletingArticle_thenDeletesArticle() {
+    void givenArticleUpdatedViaDataRest_whenSyncing_thenPublishesUpdatedEventWithPrevious() {
+        // Given
+        Article article = createArticle();
+        ArticleDto previous = createArticleDto("이전 타이틀", "이전 내용", "#java");
+        given(articleRepository.findById(1L)).willReturn(Optional.of(article));
+        given(hashtagService.parseHashtagNames(article.getHashtag())).willReturn(Set.of());
+        given(hashtagService.findOrCreateHashtags(Set.of())).willReturn(Set.of());
+
+        // When
+        sut.syncSavedArticle(1L, previous);
+
+        // Then
+        then(eventPublisher).should().publishEvent(ArticleEvent.of(ArticleEvent.Type.UPDATED, 1L, previous, ArticleDto.from(article)));
+    }
+
+    @DisplayName("게시글의 ID를 입력하면, 댓글과 해시태그 연결을 일괄 삭제한 뒤 게시글을 삭제한다")
+    @Test
+    void givenArticleId_whenDeletingArticle_thenDeletesCommentsInBulkAndArticle() {
         // Given
         Long articleId = 1L;
-        willDoNothing().given(articleRepository).deleteById(articleId);
+        Article article = createArticle();
+        given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
+        given(articleRepository.deleteByIds(List.of(articleId))).willReturn(1);
 
         // When
         sut.deleteArticle(1L);
 
         // Then
-        then(articleRepository).should().deleteById(articleId);
+        then(articleCommentRepository).should().deleteByArticleIds(List.of(articleId));
+        then(hashtagRepository).should().deleteArticleLinksByArticleIds(List.of(articleId));
+        then(articleRepository).should().deleteByIds(List.of(articleId));
+        then(articleRepository).should(never()).delete(any(Article.class)); // 댓글을 한 건씩 지우는 cascade 삭제를 쓰지 않는다
+        then(eventPublisher).should().publishEvent(ArticleEvent.of(ArticleEvent.Type.DELETED, articleId, ArticleDto.from(article), null));
+    }
+
+    @DisplayName("없는 게시글의 ID를 입력하면, 아무 것도 삭제하지 않는다")
+    @Test
+    void givenNonexistentArticleId_whenDeletingArticle_thenDoesNothing() {
+        // Given
+        given(articleRepository.findById(0L)).willReturn(Optional.empty());
+
+        // When
+        sut.deleteArticle(0L);
+
+        // Then
+        then(articleCommentRepository).shouldHaveNoInteractions();
+        then(articleRepository).should(never()).deleteByIds(any());
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("게시글 ID 목록을 입력하면, 중복을 빼고 있는 게시글만 일괄 삭제하고 게시글마다 삭제 이벤트를 발행한다")
+    @Test
+    void givenArticleIds_whenDeletingArticles_thenDeletesExistingArticlesInBulk() {
+        // Given
+        Article first = createArticle(1L);
+        Article second = createArticle(2L);
+        given(articleRepository.findAllById(List.of(1L, 2L, 3L))).willReturn(List.of(first, second));
+        given(articleRepository.deleteByIds(List.of(1L, 2L))).willReturn(2);
+
+        // When
+        int deleted = sut.deleteArticles(List.of(1L, 2L, 2L, 3L));
+
+        // Then
+        assertThat(deleted).isEqualTo(2);
+        then(articleCommentRepository).should().deleteByArticleIds(List.of(1L, 2L));
+        then(hashtagRepository).should().deleteArticleLinksByArticleIds(List.of(1L, 2L));
+        then(eventPublisher).should().publishEvent(ArticleEvent.of(ArticleEvent.Type.DELETED, 1L, ArticleDto.from(first), null));
+        then(eventPublisher).should().publishEvent(ArticleEvent.of(ArticleEvent.Type.DELETED, 2L, ArticleDto.from(second), null));
+    }
+
+    @DisplayName("삭제 조건을 입력하면, 조건에 맞는 게시글을 청크 단위로 일괄 삭제한다")
+    @Test
+    void givenPredicate_whenDeletingArticles_thenDeletesMatchingArticlesInBulk() {
+        // Given
+        Predicate predicate = QArticle.article.title.containsIgnoreCase("spam");
+        Article article = createArticle(1L);
+        given(articleRepository.findFirstById(predicate, 500)).willReturn(List.of(article));
+        given(articleRepository.deleteByIds(List.of(1L))).willReturn(1);
+
+        // When
+        long deleted = sut.deleteArticles(predicate);
+
+        // Then
+        assertThat(deleted).isEqualTo(1L);
+        then(articleCommentRepository).should().deleteByArticleIds(List.of(1L));
+        then(articleRepository).should().findFirstById(predicate, 500); // 마지막 청크가 덜 찼으면 다시 조회하지 않는다
+        then(eventPublisher).should().publishEvent(ArticleEvent.of(ArticleEvent.Type.DELETED, 1L, ArticleDto.from(article), null));
     }
 
     @DisplayName("게시글 수를 조회하면, 게시글 수를 반환한다")
@@ -235,29 +496,31 @@ class ArticleServiceTest {
     void givenNothing_whenCountingArticles_thenReturnsArticleCount() {
         // Given
         long expected = 0L;
-        given(articleRepository.count()).willReturn(expected);
+        given(articleCountService.countArticles()).willReturn(expected);
 
         // When
         long actual = sut.getArticleCount();
 
         // Then
         assertThat(actual).isEqualTo(expected);
-        then(articleRepository).should().count();
+        then(articleCountService).should().countArticles();
+        then(articleRepository).shouldHaveNoInteractions();
     }
 
     @DisplayName("해시태그를 조회하면, 유니크 해시태그 리스트를 반환한다.")
     @Test
     void givenNothing_whenCalling_thenReturnsHashtags() {
         // Given
-        List<String> expectedHashtags = List.of("#java", "#spring", "#boot");
-        given(articleRepository.findAllDistinctHashtags()).willReturn(expectedHashtags);
+        List<String> expectedHashtags = List.of("#boot", "#java", "#spring");
+        given(hashtagCatalogService.getHashtagNames()).willReturn(List.of("boot", "java", "spring"));
 
         // When
         List<String> actualHashtags = sut.getHashtags();
 
         // Then
         assertThat(actualHashtags).isEqualTo(expectedHashtags);
-        then(articleRepository).should().findAllDistinctHashtags();
+        then(hashtagCatalogService).should().getHashtagNames();
+        then(hashtagRepository).shouldHaveNoInteractions();
     }
 
     private UserAccount createUserAccount() {
@@ -271,17 +534,29 @@ class ArticleServiceTest {
     }
 
     private Article createArticle() {
+        return createArticle(1L);
+    }
+
+    private Article createArticle(Long id) {
         Article article = Article.of(
                 createUserAccount(),
                 "title",
                 "content",
                 "#java"
         );
-        ReflectionTestUtils.setField(article, "id", 1L);
+        ReflectionTestUtils.setField(article, "id", id);
 
         return article;
     }
 
+    private ArticleSummaryDto createArticleSummary(Long id) {
+        return createArticleSummary(id, LocalDateTime.now());
+    }
+
+    private ArticleSummaryDto createArticleSummary(Long id, LocalDateTime createdAt) {
+        return ArticleSummaryDto.of(id, "title", "#java", "content", createdAt, "uno", "Uno", 0L);
+    }
+
     private ArticleDto createArticleDto() {
         return createArticleDto("title", "content", "#java");
     }
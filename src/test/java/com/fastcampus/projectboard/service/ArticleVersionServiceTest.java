@@ -0,0 +1,108 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.dto.ArticleVersionDto;
+import com.fastcampus.projectboard.dto.ContentVersion;
+import com.fastcampus.projectboard.event.ArticleEvent;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 조건부 요청 검증 값")
+@ExtendWith(MockitoExtension.class)
+class ArticleVersionServiceTest {
+    @InjectMocks private ArticleVersionService sut;
+    @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCountService articleCountService;
+
+    @DisplayName("게시글 변경 이벤트를 받으면, 리스트 ETag 가 바뀐다.")
+    @Test
+    void givenArticleEvent_whenHandling_thenChangesListETag() {
+        // Given
+        ContentVersion before = sut.getListVersion();
+
+        // When
+        sut.on(ArticleEvent.of(ArticleEvent.Type.CREATED, 1L, null, null));
+
+        // Then
+        assertThat(sut.getListVersion().eTag()).isNotEqualTo(before.eTag());
+    }
+
+    @DisplayName("리스트 검증 값에는 인스턴스별 시각이 들어가지 않도록, Last-Modified 를 쓰지 않는다.")
+    @Test
+    void givenNothing_whenRequestingListVersion_thenReturnsETagOnly() {
+        // Given
+
+        // When
+        ContentVersion version = sut.getListVersion();
+
+        // Then
+        assertThat(version.lastModified()).isEqualTo(ContentVersion.NO_LAST_MODIFIED);
+    }
+
+    @DisplayName("게시글을 조회하면, 게시글/댓글 수정 시각과 댓글 수, 게시글 수로 ETag 를 만들고 Last-Modified 는 쓰지 않는다.")
+    @Test
+    void givenArticleVersion_whenRequestingArticleVersion_thenReturnsETagOnly() {
+        // Given
+        Long articleId = 1L;
+        LocalDateTime articleModifiedAt = LocalDateTime.of(2022, 1, 1, 0, 0);
+        LocalDateTime lastCommentModifiedAt = articleModifiedAt.plusHours(1);
+        given(articleRepository.findVersion(articleId)).willReturn(Optional.of(ArticleVersionDto.of(articleId, articleModifiedAt, lastCommentModifiedAt, 3L)));
+        given(articleCountService.countArticles()).willReturn(10L);
+
+        // When
+        ContentVersion version = sut.getArticleVersion(articleId);
+
+        // Then
+        assertThat(version.lastModified()).isEqualTo(ContentVersion.NO_LAST_MODIFIED);
+        assertThat(version.eTag())
+                .startsWith("article-1-")
+                .contains("-" + lastCommentModifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + "-")
+                .endsWith("-3-10");
+    }
+
+    @DisplayName("보는 사람(세션, 사용자)이 다르면, 같은 게시글이라도 상세 화면 ETag 가 다르다.")
+    @Test
+    void givenDifferentViewers_whenRequestingArticleVersion_thenReturnsDifferentETags() {
+        // Given
+        Long articleId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.of(2022, 1, 1, 0, 0);
+        given(articleRepository.findVersion(articleId)).willReturn(Optional.of(ArticleVersionDto.of(articleId, modifiedAt, null, 0L)));
+        given(articleCountService.countArticles()).willReturn(10L);
+
+        // When
+        ContentVersion before = sut.getArticleVersion(articleId, "session-a");
+        ContentVersion after = sut.getArticleVersion(articleId, "session-b");
+
+        // Then
+        assertThat(before.eTag()).isNotEqualTo(after.eTag());
+        assertThat(after.eTag()).endsWith("-session-b");
+    }
+
+    @DisplayName("없는 게시글을 조회하면, 예외를 던진다.")
+    @Test
+    void givenNonexistentArticleId_whenRequestingArticleVersion_thenThrowsException() {
+        // Given
+        Long articleId = 0L;
+        given(articleRepository.findVersion(articleId)).willReturn(Optional.empty());
+
+        // When
+        Throwable t = catchThrowable(() -> sut.getArticleVersion(articleId));
+
+        // Then
+        assertThat(t)
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("게시글이 없습니다 - articleId: " + articleId);
+    }
+}
@@ -0,0 +1,138 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.CacheConfig;
+import com.fastcampus.projectboard.event.ArticleEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 조회수")
+@ExtendWith(MockitoExtension.class)
+class ArticleViewCountServiceTest {
+    private ArticleViewCountService sut;
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private CacheManager cacheManager;
+    @Mock private Cache articleCache;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleViewCountService(jdbcTemplate, new TransactionTemplate(transactionManager), cacheManager);
+    }
+
+    @DisplayName("조회를 기록하면, DB 값에 반영 전 증가분을 더한 조회수를 반환한다.")
+    @Test
+    void givenViews_whenRequestingViewCount_thenReturnsPersistedPlusPendingViews() {
+        // Given
+        sut.increaseViewCount(1L);
+        sut.increaseViewCount(1L);
+        sut.increaseViewCount(2L);
+
+        // When
+        long viewCount = sut.getViewCount(1L, 10L);
+
+        // Then
+        assertThat(viewCount).isEqualTo(12L);
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("증가분을 반영하면, 게시글별 합계를 한 번의 배치 UPDATE 로 쓰고 캐시된 게시글을 내린다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenPendingViews_whenFlushing_thenWritesAggregatedDeltasInOneBatch() {
+        // Given
+        sut.increaseViewCount(2L);
+        sut.increaseViewCount(1L);
+        sut.increaseViewCount(2L);
+        given(cacheManager.getCache(CacheConfig.ARTICLE)).willReturn(articleCache);
+
+        // When
+        sut.flush();
+
+        // Then
+        then(jdbcTemplate).should().batchUpdate(anyString(), argThat((Collection<Map.Entry<Long, Long>> deltas) ->
+                deltas.stream().map(Map.Entry::getKey).toList().equals(List.of(1L, 2L)) // 게시글 ID 순서
+                        && deltas.stream().mapToLong(Map.Entry::getValue).sum() == 3L
+        ), anyInt(), any());
+        then(transactionManager).should().commit(any());
+        then(articleCache).should().evictIfPresent(1L);
+        then(articleCache).should().evictIfPresent(2L);
+        assertThat(sut.getViewCount(2L, 0L)).isZero();
+    }
+
+    @DisplayName("증가분을 반영하면, 비운 카운터를 맵에서 뺀다.")
+    @Test
+    void givenPendingViews_whenFlushing_thenRemovesDrainedCounters() {
+        // Given
+        sut.increaseViewCount(1L);
+        given(cacheManager.getCache(CacheConfig.ARTICLE)).willReturn(articleCache);
+
+        // When
+        sut.flush();
+
+        // Then
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(sut, "pendingViews")).isEmpty();
+    }
+
+    @DisplayName("반영할 증가분이 없으면, UPDATE 를 날리지 않는다.")
+    @Test
+    void givenNoPendingViews_whenFlushing_thenDoesNothing() {
+        // Given
+
+        // When
+        sut.flush();
+
+        // Then
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("반영에 실패하면, 증가분을 버리지 않고 다음 주기로 넘긴다.")
+    @Test
+    void givenDatabaseFailure_whenFlushing_thenKeepsPendingViews() {
+        // Given
+        sut.increaseViewCount(1L);
+        sut.increaseViewCount(1L);
+        willThrow(new QueryTimeoutException("timeout")).given(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+
+        // When
+        sut.flush();
+
+        // Then
+        then(transactionManager).should().rollback(any());
+        then(transactionManager).should(never()).commit(any());
+        assertThat(sut.getViewCount(1L, 0L)).isEqualTo(2L);
+    }
+
+    @DisplayName("게시글 삭제 이벤트를 받으면, 반영 전 증가분을 버린다.")
+    @Test
+    void givenDeletedArticle_whenHandlingEvent_thenDropsPendingViews() {
+        // Given
+        sut.increaseViewCount(1L);
+
+        // When
+        sut.on(ArticleEvent.of(ArticleEvent.Type.DELETED, 1L, null, null));
+        sut.flush();
+
+        // Then
+        assertThat(sut.getViewCount(1L, 0L)).isZero();
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,125 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.HashtagUsageDto;
+import com.fastcampus.projectboard.dto.UserAccountDto;
+import com.fastcampus.projectboard.event.ArticleEvent;
+import com.fastcampus.projectboard.repository.HashtagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 해시태그 카탈로그")
+@ExtendWith(MockitoExtension.class)
+class HashtagCatalogServiceTest {
+    private HashtagCatalogService sut;
+    @Mock private HashtagRepository hashtagRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 해시태그 파싱은 실제 구현 사용
+        sut = new HashtagCatalogService(hashtagRepository, new HashtagService(hashtagRepository, null));
+    }
+
+    @DisplayName("카탈로그를 로드하면, DB 의 해시태그를 가나다순으로 반환한다.")
+    @Test
+    void givenDatabaseHashtags_whenLoading_thenReturnsSortedHashtagNames() {
+        // Given
+        given(hashtagRepository.countArticlesByHashtagName()).willReturn(Map.of("spring", 2L, "java", 1L));
+
+        // When
+        sut.load();
+
+        // Then
+        assertThat(sut.getHashtagNames()).containsExactly("java", "spring");
+        assertThat(sut.countArticles("spring")).isEqualTo(2L);
+    }
+
+    @DisplayName("게시글 이벤트를 받으면, DB 조회 없이 카탈로그를 갱신한다.")
+    @Test
+    void givenArticleEvents_whenHandling_thenUpdatesCatalog() {
+        // Given
+        ArticleDto java = createArticleDto("#java");
+        ArticleDto spring = createArticleDto("#spring #boot");
+
+        // When
+        sut.on(ArticleEvent.of(ArticleEvent.Type.CREATED, 1L, null, java));
+        sut.on(ArticleEvent.of(ArticleEvent.Type.UPDATED, 1L, java, spring));
+
+        // Then
+        assertThat(sut.getHashtagNames()).containsExactly("boot", "spring");
+        assertThat(sut.countArticles("java")).isZero();
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("상위 N 개 해시태그를 요청하면, 사용 수 내림차순으로 N 개를 반환한다.")
+    @Test
+    void givenLimit_whenGettingTopHashtags_thenReturnsMostUsedHashtags() {
+        // Given
+        given(hashtagRepository.countArticlesByHashtagName()).willReturn(Map.of("a", 1L, "b", 5L, "c", 3L));
+        sut.load();
+
+        // When
+        List<HashtagUsageDto> actual = sut.getTopHashtags(2);
+
+        // Then
+        assertThat(actual).containsExactly(HashtagUsageDto.of("b", 5L), HashtagUsageDto.of("c", 3L));
+    }
+
+    @DisplayName("DB 와 대조하면, 어긋난 사용 수를 바로잡고 사라진 해시태그를 제거한다.")
+    @Test
+    void givenDrift_whenReconciling_thenCorrectsCatalog() {
+        // Given
+        sut.on(ArticleEvent.of(ArticleEvent.Type.CREATED, 1L, null, createArticleDto("#stale")));
+        given(hashtagRepository.countArticlesByHashtagName()).willReturn(Map.of("java", 4L));
+
+        // When
+        sut.reconcile();
+
+        // Then
+        assertThat(sut.getHashtagNames()).containsExactly("java");
+        assertThat(sut.countArticles("java")).isEqualTo(4L);
+    }
+
+    @DisplayName("DB 와 대조하는 도중 게시글 이벤트가 들어오면, DB 값에 그 증감을 더해 반영한다.")
+    @Test
+    void givenEventDuringReconcile_whenReconciling_thenKeepsEvent() {
+        // Given - DB 조회 이후 커밋된 게시글이라 조회 결과에는 없다
+        given(hashtagRepository.countArticlesByHashtagName()).willAnswer(invocation -> {
+            sut.on(ArticleEvent.of(ArticleEvent.Type.CREATED, 2L, null, createArticleDto("#spring")));
+            return Map.of("java", 1L);
+        });
+        assertThat(sut.getHashtagNames()).isEmpty(); // 정렬 목록 캐시를 채워 둔다
+
+        // When
+        sut.reconcile();
+
+        // Then
+        assertThat(sut.getHashtagNames()).containsExactly("java", "spring");
+        assertThat(sut.countArticles("spring")).isEqualTo(1L);
+    }
+
+    private ArticleDto createArticleDto(String hashtag) {
+        return ArticleDto.of(
+                1L,
+                UserAccountDto.of("uno", "pw", "uno@mail.com", "Uno", null, LocalDateTime.now(), "uno", LocalDateTime.now(), "uno"),
+                "title",
+                "content",
+                hashtag,
+                LocalDateTime.now(),
+                "uno",
+                LocalDateTime.now(),
+                "uno"
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.Hashtag;
+import com.fastcampus.projectboard.repository.HashtagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 해시태그")
+@ExtendWith(MockitoExtension.class)
+class HashtagServiceTest {
+    @InjectMocks private HashtagService sut;
+    @Mock private HashtagRepository hashtagRepository;
+    @Mock private HashtagCreationService hashtagCreationService;
+
+    @DisplayName("해시태그 문자열을 파싱하면, 정규화된 유니크 해시태그 이름들을 반환한다.")
+    @Test
+    void givenHashtagInput_whenParsing_thenReturnsNormalizedUniqueNames() {
+        // Given
+        String input = "#Java #스프링, boot #java ##";
+
+        // When
+        Set<String> actual = sut.parseHashtagNames(input);
+
+        // Then
+        assertThat(actual).containsExactly("java", "스프링", "boot");
+    }
+
+    @DisplayName("빈 입력을 파싱하면, 빈 집합을 반환한다.")
+    @Test
+    void givenBlankInput_whenParsing_thenReturnsEmptySet() {
+        // When & Then
+        assertThat(sut.parseHashtagNames(null)).isEmpty();
+        assertThat(sut.parseHashtagNames(" ")).isEmpty();
+    }
+
+    @DisplayName("해시태그 이름을 주면, 있는 해시태그는 재사용하고 없는 해시태그만 새로 저장한다.")
+    @Test
+    void givenHashtagNames_whenFindingOrCreating_thenSavesOnlyNewHashtags() {
+        // Given
+        Set<String> names = Set.of("java", "spring");
+        given(hashtagRepository.findByHashtagNameIn(names)).willReturn(List.of(Hashtag.of("java")));
+        given(hashtagRepository.findLockedByHashtagName("spring")).willReturn(Optional.of(Hashtag.of("spring")));
+
+        // When
+        Set<Hashtag> actual = sut.findOrCreateHashtags(names);
+
+        // Then
+        assertThat(actual)
+                .extracting(Hashtag::getHashtagName)
+                .containsExactlyInAnyOrder("java", "spring");
+        then(hashtagCreationService).should().create("spring");
+        then(hashtagCreationService).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("같은 새 해시태그를 다른 요청이 먼저 저장해 유니크 제약을 위반하면, 먼저 저장된 해시태그를 쓴다.")
+    @Test
+    void givenConcurrentlyCreatedHashtag_whenFindingOrCreating_thenReusesCommittedHashtag() {
+        // Given
+        Set<String> names = Set.of("spring");
+        Hashtag committed = Hashtag.of("spring");
+        given(hashtagRepository.findByHashtagNameIn(names)).willReturn(List.of());
+        willThrow(new DataIntegrityViolationException("duplicate")).given(hashtagCreationService).create("spring");
+        given(hashtagRepository.findLockedByHashtagName("spring")).willReturn(Optional.of(committed));
+
+        // When
+        Set<Hashtag> actual = sut.findOrCreateHashtags(names);
+
+        // Then
+        assertThat(actual).containsExactly(committed);
+    }
+}
@@ -0,0 +1,85 @@
+package com.fastcampus.projectboard.web;
+
+import com.fastcampus.projectboard.datasource.PrimaryReads;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("필터 - 쓰기 후 프라이머리 읽기")
+class ReadYourWritesFilterTest {
+    private final ReadYourWritesFilter sut = new ReadYourWritesFilter(Duration.ofSeconds(5));
+    private final AtomicBoolean pinnedInChain = new AtomicBoolean();
+
+    @DisplayName("쓰기 요청이면, 요청 동안 프라이머리로 고정하고 기한 쿠키를 내려준다.")
+    @Test
+    void givenWriteRequest_whenFiltering_thenPinsToPrimaryAndSetsCookie() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/articles/form");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        sut.doFilter(request, response, chain());
+
+        // Then
+        assertThat(pinnedInChain).isTrue();
+        assertThat(PrimaryReads.isPinned()).isFalse();
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertThat(cookie).isNotNull();
+        assertThat(Long.parseLong(cookie.getValue())).isGreaterThan(System.currentTimeMillis());
+        assertThat(cookie.getMaxAge()).isEqualTo(5);
+    }
+
+    @DisplayName("기한이 남은 쿠키가 있는 읽기 요청이면, 프라이머리로 고정한다.")
+    @Test
+    void givenReadRequestWithinWindow_whenFiltering_thenPinsToPrimary() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(System.currentTimeMillis() + 5_000)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        sut.doFilter(request, response, chain());
+
+        // Then
+        assertThat(pinnedInChain).isTrue();
+        assertThat(response.getCookie(ReadYourWritesFilter.COOKIE_NAME)).isNull();
+    }
+
+    @DisplayName("쿠키가 없거나 기한이 지난 읽기 요청이면, 고정하지 않는다.")
+    @Test
+    void givenReadRequestOutsideWindow_whenFiltering_thenDoesNotPin() throws Exception {
+        // Given
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/articles");
+        expired.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(System.currentTimeMillis() - 1)));
+
+        // When
+        sut.doFilter(new MockHttpServletRequest("GET", "/articles"), new MockHttpServletResponse(), chain());
+        boolean pinnedWithoutCookie = pinnedInChain.get();
+        sut.doFilter(expired, new MockHttpServletResponse(), chain());
+        boolean pinnedWithExpiredCookie = pinnedInChain.get();
+
+        // Then
+        assertThat(pinnedWithoutCookie).isFalse();
+        assertThat(pinnedWithExpiredCookie).isFalse();
+    }
+
+    private MockFilterChain chain() {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                pinnedInChain.set(PrimaryReads.isPinned());
+            }
+        });
+    }
+}
@@ -0,0 +1,106 @@
+package com.fastcampus.projectboard.web;
+
+import com.fastcampus.projectboard.event.ArticleEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("필터 - 렌더링된 페이지 캐시")
+class RenderedPageCacheFilterTest {
+    private final ConcurrentMapCache cache = new ConcurrentMapCache("renderedPage");
+    private final RenderedPageCacheFilter sut = new RenderedPageCacheFilter(cache);
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @DisplayName("같은 조건의 페이지를 다시 요청하면, 렌더링 없이 캐시된 HTML 을 반환한다.")
+    @Test
+    void givenSameRequest_whenRequestingTwice_thenServesCachedPage() throws Exception {
+        // Given
+        request("/articles", "page", "0");
+
+        // When
+        MockHttpServletResponse response = request("/articles");
+
+        // Then
+        assertThat(renders).hasValue(1);
+        assertThat(response.getContentAsString()).isEqualTo("<html>1</html>");
+        assertThat(response.getContentType()).startsWith("text/html");
+    }
+
+    @DisplayName("캐시된 페이지를 같은 ETag 로 재검증하면, 본문 없이 304 를 반환한다.")
+    @Test
+    void givenCachedPageAndMatchingETag_whenRevalidating_thenReturnsNotModified() throws Exception {
+        // Given
+        request("/articles");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles");
+        request.addHeader("If-None-Match", "\"v1\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        sut.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(renders).hasValue(1);
+    }
+
+    @DisplayName("게시글 변경 이벤트를 받으면, 캐시를 비워 다시 렌더링한다.")
+    @Test
+    void givenArticleEvent_whenRequestingAgain_thenRendersAgain() throws Exception {
+        // Given
+        request("/articles");
+        sut.on(ArticleEvent.of(ArticleEvent.Type.CREATED, 1L, null, null));
+
+        // When
+        MockHttpServletResponse response = request("/articles");
+
+        // Then
+        assertThat(renders).hasValue(2);
+        assertThat(response.getContentAsString()).isEqualTo("<html>2</html>");
+    }
+
+    @DisplayName("캐시 키는 화면에 영향을 주는 파라미터만, 정해진 순서로 담는다.")
+    @Test
+    void givenRequestParameters_whenMakingCacheKey_thenNormalizesParameters() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles/search-hashtag");
+        request.addParameter("searchValue", " #java ");
+        request.addParameter("page", "1");
+        request.addParameter("utm_source", "mail");
+
+        // When
+        String key = RenderedPageCacheFilter.cacheKey(request);
+
+        // Then
+        assertThat(key).isEqualTo("/articles/search-hashtag?page=1&searchValue=#java");
+    }
+
+    private MockHttpServletResponse request(String uri, String... parameters) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        for (int i = 0; i < parameters.length; i += 2) {
+            request.addParameter(parameters[i], parameters[i + 1]);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType("text/html;charset=UTF-8");
+                resp.setHeader("ETag", "\"v1\"");
+                resp.getWriter().write("<html>" + renders.incrementAndGet() + "</html>");
+            }
+        }));
+
+        return response;
+    }
+}